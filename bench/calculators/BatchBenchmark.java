@@ -0,0 +1,94 @@
+package calculators;
+
+import exceptions.NotSupportedOperationException;
+
+/**
+ * Compares the plain Java loops of {@link BatchCalculator} with the Vector API kernel.
+ * Run with {@code scripts/benchmark.sh Batch [elements]}; without the {@code jdk.incubator.vector}
+ * module both columns measure the plain Java loops.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class BatchBenchmark {
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private BatchBenchmark() {
+	}
+
+	/**
+	 * Runs the comparison.
+	 *
+	 * @param args The number of elements, 4096 by default.
+	 * @throws NotSupportedOperationException Never, the operators are fixed.
+	 */
+	public static void main(String[] args) throws NotSupportedOperationException {
+		int length = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+		double[] values = new double[length];
+		double[] operands = new double[length];
+		for(int i = 0; i < length; i++) {
+			values[i] = (i % 97 - 30) * 0.75;
+			operands[i] = i % 101 == 0 ? 0.0 : (i % 13) * 0.5 + 0.25;
+		}
+		double[] results = new double[length];
+		long[] bitmap = new long[BatchCalculator.bitmapLength(length)];
+		System.out.println("kernel: " + (BatchCalculator.isVectorized() ? "vector" : "scalar") + ", "
+				+ length + " elements");
+		System.out.printf("%-24s %16s %16s %7s%n", "case", "scalar", "kernel", "speedup");
+		for(char operator : new char[] {'+', '*', '/'}) {
+			compare("calculate " + operator, length, kernel -> BatchCalculator.calculate(kernel, values, 1.5, operator, results, bitmap));
+			compare("calculate lanes " + operator, length, kernel -> BatchCalculator.calculate(kernel, values, operands, operator, results, bitmap));
+		}
+		for(char action : new char[] {'2', '9'}) {
+			compare("power " + action, length, kernel -> BatchCalculator.power(kernel, values, action, results, bitmap));
+		}
+	}
+
+	/**
+	 * A batch operation run with a kernel.
+	 */
+	@FunctionalInterface
+	private interface Case {
+		/**
+		 * Runs the operation once.
+		 *
+		 * @param kernel The kernel.
+		 * @throws NotSupportedOperationException If the operation is not supported.
+		 */
+		void run(BatchKernel kernel) throws NotSupportedOperationException;
+	}
+
+	/**
+	 * Times a case with the scalar kernel and with the kernel used by {@link BatchCalculator}.
+	 *
+	 * @param label The name of the case.
+	 * @param length The number of elements.
+	 * @param batch The case.
+	 */
+	private static void compare(String label, int length, Case batch) {
+		int repeat = Math.max(1, 1_000_000 / length);
+		long scalar = Benchmarks.best(() -> repeat(batch, BatchCalculator.SCALAR, repeat));
+		long kernel = Benchmarks.best(() -> repeat(batch, BatchCalculator.KERNEL, repeat));
+		Benchmarks.print(label, scalar, kernel, (long) length * repeat);
+	}
+
+	/**
+	 * Runs a case several times.
+	 *
+	 * @param batch The case.
+	 * @param kernel The kernel.
+	 * @param times The number of runs.
+	 */
+	private static void repeat(Case batch, BatchKernel kernel, int times) {
+		try {
+			for(int i = 0; i < times; i++) {
+				batch.run(kernel);
+			}
+		} catch(NotSupportedOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package calculators;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Helpers shared by the benchmark mains run with {@code scripts/benchmark.sh}.
+ * The timings are the best of several rounds after the same number of warm-up rounds,
+ * which is enough to compare two implementations on one machine but is no substitute for JMH.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class Benchmarks {
+	/**
+	 * The number of warm-up rounds and of measured rounds.
+	 */
+	static final int ROUNDS = 15;
+
+	/**
+	 * A value that the measured code feeds, so the JIT compiler cannot drop it.
+	 */
+	static volatile long sink;
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private Benchmarks() {
+	}
+
+	/**
+	 * Measures the best time of one round of a body.
+	 *
+	 * @param body The measured code, run once per round.
+	 * @return The shortest time of a round, in nanoseconds.
+	 */
+	static long best(Runnable body) {
+		for(int i = 0; i < ROUNDS; i++) {
+			body.run();
+		}
+		long best = Long.MAX_VALUE;
+		for(int i = 0; i < ROUNDS; i++) {
+			long start = System.nanoTime();
+			body.run();
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+
+	/**
+	 * Measures the bytes allocated by the current thread in one round of a body, after warm-up.
+	 *
+	 * @param body The measured code, run once per round.
+	 * @return The bytes allocated by the last round, or -1 if the JVM cannot measure them.
+	 */
+	static long allocated(Runnable body) {
+		if(!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+			return -1;
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		for(int i = 0; i < ROUNDS; i++) {
+			body.run();
+		}
+		long before = threads.getCurrentThreadAllocatedBytes();
+		body.run();
+		return threads.getCurrentThreadAllocatedBytes() - before;
+	}
+
+	/**
+	 * Prints one line of a comparison.
+	 *
+	 * @param label The name of the measured case.
+	 * @param baseline The time of the baseline, in nanoseconds.
+	 * @param candidate The time of the candidate, in nanoseconds.
+	 * @param operations The number of operations in one round.
+	 */
+	static void print(String label, long baseline, long candidate, long operations) {
+		System.out.printf("%-24s %10.2f ns/op %10.2f ns/op %6.2fx%n", label,
+				(double) baseline / operations, (double) candidate / operations, (double) baseline / candidate);
+	}
+}
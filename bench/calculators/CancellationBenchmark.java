@@ -0,0 +1,82 @@
+package calculators;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+import exceptions.OperationCancelledException;
+
+/**
+ * Measures the cost of checking a cancellation token that never fires,
+ * by running the same operations without a token and with a live token that has a deadline,
+ * which is the more expensive kind to check. The long loops check the token once per
+ * {@link CancellationToken#CHECK_INTERVAL} steps; a constant-time operation checks it once per call,
+ * which costs a clock read.
+ * Run with {@code scripts/benchmark.sh Cancellation}.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class CancellationBenchmark {
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private CancellationBenchmark() {
+	}
+
+	/**
+	 * Runs the comparison.
+	 *
+	 * @param args Not used.
+	 */
+	public static void main(String[] args) {
+		CancellationToken token = new CancellationToken(1, TimeUnit.HOURS);
+		BigInteger perfect = BigInteger.ONE.shiftLeft(4423).subtract(BigInteger.ONE).shiftLeft(4422);
+		int[] numbers = new int[20000];
+		for(int i = 0; i < numbers.length; i++) {
+			numbers[i] = Integer.MAX_VALUE - 2 * i;
+		}
+		CalculatorAdvanced calculator = new CalculatorAdvanced(0);
+		System.out.printf("%-24s %16s %16s %7s%n", "operation", "no token", "live token", "speedup");
+		Benchmarks.print("isPerfect per LL step", Benchmarks.best(() -> Benchmarks.sink += Characteristics.isPerfect(perfect) ? 1 : 0),
+				Benchmarks.best(() -> {
+					try {
+						Benchmarks.sink += Characteristics.isPerfect(perfect, token) ? 1 : 0;
+					} catch(OperationCancelledException e) {
+						throw new IllegalStateException(e);
+					}
+				}), 4423 - 2);
+		Benchmarks.print("classify large ints", Benchmarks.best(() -> {
+			for(int number : numbers) {
+				Benchmarks.sink += Characteristics.classify(number);
+			}
+		}), Benchmarks.best(() -> {
+			for(int number : numbers) {
+				Benchmarks.sink += Characteristics.classify(number, token);
+			}
+		}), numbers.length);
+		int repeat = 1_000_000;
+		Benchmarks.print("calculateAdvanced ^1", Benchmarks.best(() -> {
+			try {
+				calculator.setCurrentValue(1.5);
+				for(int i = 0; i < repeat; i++) {
+					calculator.calculateAdvanced('1');
+				}
+			} catch(NumberNotInAreaException | NotSupportedOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}), Benchmarks.best(() -> {
+			try {
+				calculator.setCurrentValue(1.5);
+				for(int i = 0; i < repeat; i++) {
+					calculator.calculateAdvanced('1', token);
+				}
+			} catch(NumberNotInAreaException | NotSupportedOperationException | OperationCancelledException e) {
+				throw new IllegalStateException(e);
+			}
+		}), repeat);
+	}
+}
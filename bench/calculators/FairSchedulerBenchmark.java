@@ -0,0 +1,172 @@
+package calculators;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+/**
+ * Measures the latency of cheap operations under an adversarial mix of requests,
+ * where one tenant keeps the workers busy with public operations that the cost estimate of
+ * {@link FairScheduler} sends to the expensive lane: classifying primes just below {@link Integer#MAX_VALUE},
+ * which divides by every prime up to the square root, and Armstrong checks of 59-digit values.
+ * The same worker pool is used once directly, in arrival order, and once behind a {@link FairScheduler}
+ * that reserves part of it for the cheap lane.
+ * Run with {@code scripts/benchmark.sh FairScheduler [cheap operations]}.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class FairSchedulerBenchmark {
+	/**
+	 * The number of worker threads.
+	 */
+	private static final int WORKERS = 3;
+
+	/**
+	 * The number of expensive operations the adversary keeps outstanding.
+	 */
+	private static final int ADVERSARY_OUTSTANDING = 32;
+
+	/**
+	 * The pause between two cheap operations of the user, in nanoseconds.
+	 */
+	private static final long USER_INTERVAL = TimeUnit.MICROSECONDS.toNanos(100);
+
+	/**
+	 * A prime just below {@link Integer#MAX_VALUE}, whose classification needs all trial divisions.
+	 */
+	private static final double PRIME = 2147483629.0;
+
+	/**
+	 * A 59-digit value, whose Armstrong check formats it and sums 59 digit powers.
+	 */
+	private static final double WIDE = 1.2345678901234567e58;
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private FairSchedulerBenchmark() {
+	}
+
+	/**
+	 * Runs the measurement.
+	 *
+	 * @param args The number of cheap operations, 5000 by default.
+	 * @throws InterruptedException If the benchmark is interrupted.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+		for(double value : new double[] {PRIME, WIDE}) {
+			char characteristic = value == PRIME ? 'C' : 'A';
+			long cost = value == PRIME ? FairScheduler.characteristicsCost(value)
+					: FairScheduler.hasCharacteristicCost(value, characteristic);
+			long time = Benchmarks.best(() -> Benchmarks.sink += expensive(value));
+			System.out.printf("expensive %c %.4g: %.1f us, estimated cost %d%n", characteristic, value, time / 1e3, cost);
+		}
+		System.out.printf("%d workers, %d outstanding%n", WORKERS, ADVERSARY_OUTSTANDING);
+		System.out.printf("%-16s %12s %12s %12s%n", "cheap latency", "p50", "p99", "max");
+		for(int round = 0; round < 2; round++) {
+			ExecutorService pool = Executors.newFixedThreadPool(WORKERS);
+			long[] fifo = measure(operations,
+					i -> CompletableFuture.supplyAsync(() -> i + 1.0, pool),
+					i -> CompletableFuture.supplyAsync(() -> expensive(i % 2 == 0 ? PRIME : WIDE), pool));
+			pool.shutdownNow();
+			ExecutorService shared = Executors.newFixedThreadPool(WORKERS);
+			FairScheduler scheduler = new FairScheduler(shared, WORKERS - 1, 1);
+			scheduler.addTenant("user", 1, Long.MAX_VALUE);
+			scheduler.addTenant("adversary", 1, Long.MAX_VALUE);
+			long[] fair = measure(operations,
+					i -> scheduler.calculate("user", i, 1.0, '+'),
+					i -> i % 2 == 0 ? scheduler.characteristics("adversary", PRIME)
+							: scheduler.hasCharacteristic("adversary", WIDE, 'A'));
+			shared.shutdownNow();
+			if(round > 0) {
+				print("FIFO pool", fifo);
+				print("FairScheduler", fair);
+			}
+		}
+	}
+
+	/**
+	 * Runs an expensive operation directly, as the FIFO pool does.
+	 *
+	 * @param value The prime to classify, or the value to check for the Armstrong characteristic.
+	 * @return The bitmask of characteristics, or 1 if the value is an Armstrong number and 0 otherwise.
+	 */
+	private static int expensive(double value) {
+		CalculatorAdvanced calculator = new CalculatorAdvanced(0);
+		calculator.setCurrentValue(value);
+		try {
+			return value == PRIME ? calculator.characteristics() : calculator.hasCharacteristic('A') ? 1 : 0;
+		} catch(NumberNotInAreaException | NotSupportedOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Submits cheap operations at a steady rate while an adversary keeps expensive operations outstanding.
+	 *
+	 * @param operations The number of cheap operations.
+	 * @param cheap Submits the cheap operation with the given index.
+	 * @param expensive Submits the expensive operation with the given index.
+	 * @return The sorted latencies of the cheap operations, in nanoseconds.
+	 * @throws InterruptedException If the measurement is interrupted.
+	 */
+	private static long[] measure(int operations, IntFunction<CompletableFuture<?>> cheap,
+			IntFunction<CompletableFuture<?>> expensive) throws InterruptedException {
+		Semaphore outstanding = new Semaphore(ADVERSARY_OUTSTANDING);
+		Thread adversary = new Thread(() -> {
+			try {
+				for(int i = 0; !Thread.currentThread().isInterrupted(); i++) {
+					outstanding.acquire();
+					expensive.apply(i).whenComplete((result, failure) -> outstanding.release());
+				}
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		adversary.start();
+		while(outstanding.availablePermits() > 0) {
+			Thread.onSpinWait();
+		}
+		long[] latencies = new long[operations];
+		CountDownLatch done = new CountDownLatch(operations);
+		for(int i = 0; i < operations; i++) {
+			int index = i;
+			long submitted = System.nanoTime();
+			cheap.apply(i).whenComplete((result, failure) -> {
+				latencies[index] = System.nanoTime() - submitted;
+				done.countDown();
+			});
+			LockSupport.parkNanos(USER_INTERVAL);
+		}
+		done.await();
+		adversary.interrupt();
+		adversary.join();
+		Arrays.sort(latencies);
+		return latencies;
+	}
+
+	/**
+	 * Prints the percentiles of the latencies.
+	 *
+	 * @param label The name of the configuration.
+	 * @param latencies The sorted latencies, in nanoseconds.
+	 */
+	private static void print(String label, long[] latencies) {
+		System.out.printf("%-16s %9.3f ms %9.3f ms %9.3f ms%n", label,
+				latencies[latencies.length / 2] / 1e6,
+				latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1e6,
+				latencies[latencies.length - 1] / 1e6);
+	}
+}
@@ -0,0 +1,74 @@
+package calculators;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Compares writing doubles with {@link ResultFormat} against {@link Double#toString(double)}
+ * followed by encoding the string into the same kind of byte array.
+ * Run with {@code scripts/benchmark.sh ResultFormat [values]}.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class ResultFormatBenchmark {
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private ResultFormatBenchmark() {
+	}
+
+	/**
+	 * Runs the comparison.
+	 *
+	 * @param args The number of values per round, 100000 by default.
+	 */
+	public static void main(String[] args) {
+		int length = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+		Random random = new Random(42);
+		double[] results = new double[length];
+		double[] bits = new double[length];
+		double[] integers = new double[length];
+		for(int i = 0; i < length; i++) {
+			results[i] = random.nextInt(100000) / 100.0 * (random.nextBoolean() ? 1 : -1);
+			bits[i] = Double.longBitsToDouble(random.nextLong() & 0x7fefffffffffffffL);
+			integers[i] = random.nextInt(1_000_000);
+		}
+		byte[] buffer = new byte[ResultFormat.MAX_LENGTH];
+		System.out.printf("%-24s %16s %16s %7s%n", "values", "Double.toString", "ResultFormat", "speedup");
+		compare("calculator results", results, buffer);
+		compare("random bit patterns", bits, buffer);
+		compare("integers", integers, buffer);
+	}
+
+	/**
+	 * Times and measures the allocations of both ways of writing a set of values.
+	 *
+	 * @param label The name of the set.
+	 * @param values The values.
+	 * @param buffer The buffer the values are written into.
+	 */
+	private static void compare(String label, double[] values, byte[] buffer) {
+		Runnable strings = () -> {
+			long length = 0;
+			for(double value : values) {
+				byte[] text = Double.toString(value).getBytes(StandardCharsets.US_ASCII);
+				System.arraycopy(text, 0, buffer, 0, text.length);
+				length += text.length;
+			}
+			Benchmarks.sink = length;
+		};
+		Runnable direct = () -> {
+			long length = 0;
+			for(double value : values) {
+				length += ResultFormat.format(value, buffer, 0);
+			}
+			Benchmarks.sink = length;
+		};
+		Benchmarks.print(label, Benchmarks.best(strings), Benchmarks.best(direct), values.length);
+		System.out.printf("%-24s %11.1f B/op %11.1f B/op%n", "  allocated",
+				(double) Benchmarks.allocated(strings) / values.length, (double) Benchmarks.allocated(direct) / values.length);
+	}
+}
@@ -0,0 +1,19 @@
+#!/bin/sh
+# Compiles the calculators, the Vector API kernel and the benchmark mains, and runs one benchmark.
+# The benchmarks compare two implementations on this machine; each prints its own table.
+#
+# Usage: scripts/benchmark.sh <name> [arguments]
+# where <name> is one of the *Benchmark classes in bench/calculators without the suffix, for example
+#   scripts/benchmark.sh Batch 4096
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+NAME=${1:?Usage: scripts/benchmark.sh <name> [arguments]}
+shift
+CLASSES=$ROOT/build/benchmarks
+
+rm -rf "$CLASSES"
+mkdir -p "$CLASSES"
+javac --add-modules jdk.incubator.vector -d "$CLASSES" \
+	$(find "$ROOT/src" "$ROOT/src-vector" "$ROOT/bench" -name '*.java') 2>&1 | grep -v -e incubat -e '^[0-9]* warning' || true
+java --add-modules jdk.incubator.vector -cp "$CLASSES" "calculators.${NAME}Benchmark" "$@" 2>&1 | grep -v incubat
@@ -0,0 +1,41 @@
+#!/bin/sh
+# Compiles the calculators and builds a dynamic class-data-sharing archive
+# from a training run of the command-line front end.
+#
+# Usage: scripts/cds-archive.sh [build directory]
+# Run the front end with the archive:
+#   java -XX:SharedArchiveFile=build/calculators.jsa -cp build/calculators.jar calculators.CalculatorCli 2 + 3
+# Class-data sharing only archives classes loaded from jar files, so the classes are packaged first.
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+BUILD=${1:-$ROOT/build}
+CLASSES=$BUILD/classes
+JAR=$BUILD/calculators.jar
+ARCHIVE=$BUILD/calculators.jsa
+
+rm -rf "$CLASSES" "$JAR" "$ARCHIVE"
+mkdir -p "$CLASSES"
+javac -d "$CLASSES" $(find "$ROOT/src" -name '*.java')
+jar cf "$JAR" -C "$CLASSES" .
+
+# The training run touches every operation, including the error paths,
+# so that all classes the front end needs end up in the archive.
+java -XX:ArchiveClassesAtExit="$ARCHIVE" -cp "$JAR" calculators.CalculatorCli > /dev/null 2>&1 <<TRAINING || true
+1 + 2
+10 - 4 * 3 / 2
+5 / 0
+4.7 !
+3 ^2 ^3
+153 A
+8128 P
+0 P
+2 % 3
+x + 1
+TRAINING
+
+if [ ! -f "$ARCHIVE" ]; then
+	echo "Archive was not written" >&2
+	exit 1
+fi
+echo "Archive written to $ARCHIVE"
@@ -0,0 +1,45 @@
+#!/bin/sh
+# Compares the time to first result of the command-line front end
+# without an application archive (cold), with the archive built by cds-archive.sh (cds),
+# and inside an already running JVM (warm, per expression read from a file generated beforehand).
+#
+# Usage: scripts/startup-benchmark.sh [runs] [build directory]
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RUNS=${1:-20}
+BUILD=${2:-$ROOT/build}
+JAR=$BUILD/calculators.jar
+ARCHIVE=$BUILD/calculators.jsa
+
+if [ ! -f "$ARCHIVE" ]; then
+	"$ROOT/scripts/cds-archive.sh" "$BUILD" > /dev/null
+fi
+
+now() {
+	date +%s%N
+}
+
+measure() {
+	label=$1
+	shift
+	start=$(now)
+	i=0
+	while [ $i -lt "$RUNS" ]; do
+		"$@" 2 + 1 ^2 ! > /dev/null
+		i=$((i + 1))
+	done
+	end=$(now)
+	echo "$label: $(( (end - start) / RUNS / 1000 )) us per run"
+}
+
+measure cold java -XX:TieredStopAtLevel=1 -cp "$JAR" calculators.CalculatorCli
+measure cds java -XX:TieredStopAtLevel=1 -XX:SharedArchiveFile="$ARCHIVE" -cp "$JAR" calculators.CalculatorCli
+
+LINES=$((RUNS * 1000))
+INPUT=$BUILD/startup-benchmark.txt
+yes "2 + 1 ^2 !" | head -n "$LINES" > "$INPUT"
+start=$(now)
+java -cp "$JAR" calculators.CalculatorCli < "$INPUT" > /dev/null
+end=$(now)
+echo "warm: $(( (end - start) / LINES / 1000 )) us per expression, including JVM start"
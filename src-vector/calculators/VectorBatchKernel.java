@@ -0,0 +1,139 @@
+package calculators;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The loops behind {@link BatchCalculator} written with the incubating Vector API.
+ * Every lane is calculated with the same IEEE 754 operations as in {@link ScalarBatchKernel},
+ * so the results are identical; masked lanes are blended back to their current value
+ * and their bits are set from the comparison mask one vector at a time.
+ * The elements after the last full vector are left to the scalar kernel.
+ * This class is compiled and run with {@code --add-modules jdk.incubator.vector};
+ * {@link BatchCalculator} loads it reflectively and falls back to the scalar kernel when it cannot be loaded.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class VectorBatchKernel implements BatchKernel {
+	/**
+	 * The widest vector shape supported by the processor.
+	 */
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	/**
+	 * Constructs the kernel.
+	 *
+	 * @throws UnsupportedOperationException If the processor has no vectors of more than one double.
+	 */
+	VectorBatchKernel() {
+		if(SPECIES.length() < 2) {
+			throw new UnsupportedOperationException("No vector support");
+		}
+	}
+
+	@Override
+	public void calculate(double[] values, double operand, char operator, double[] results, int from, int to) {
+		int step = SPECIES.length();
+		int bound = from + SPECIES.loopBound(to - from);
+		DoubleVector other = DoubleVector.broadcast(SPECIES, operand);
+		int i = from;
+		switch(operator) {
+		case '+':
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).add(other).intoArray(results, i);
+			}
+			break;
+		case '-':
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).sub(other).intoArray(results, i);
+			}
+			break;
+		case '*':
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).mul(other).intoArray(results, i);
+			}
+			break;
+		default:
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).div(other).intoArray(results, i);
+			}
+			break;
+		}
+		ScalarBatchKernel.INSTANCE.calculate(values, operand, operator, results, i, to);
+	}
+
+	@Override
+	public void calculate(double[] values, double[] operands, char operator, double[] results, long[] divisionByZero,
+			int from, int to) {
+		int step = SPECIES.length();
+		int bound = from + SPECIES.loopBound(to - from);
+		int i = from;
+		switch(operator) {
+		case '+':
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).add(DoubleVector.fromArray(SPECIES, operands, i))
+						.intoArray(results, i);
+			}
+			break;
+		case '-':
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).sub(DoubleVector.fromArray(SPECIES, operands, i))
+						.intoArray(results, i);
+			}
+			break;
+		case '*':
+			for(; i < bound; i += step) {
+				DoubleVector.fromArray(SPECIES, values, i).mul(DoubleVector.fromArray(SPECIES, operands, i))
+						.intoArray(results, i);
+			}
+			break;
+		default:
+			for(; i < bound; i += step) {
+				DoubleVector value = DoubleVector.fromArray(SPECIES, values, i);
+				DoubleVector operand = DoubleVector.fromArray(SPECIES, operands, i);
+				VectorMask<Double> zero = operand.eq(0.0);
+				value.div(operand).blend(value, zero).intoArray(results, i);
+				mark(divisionByZero, zero, i);
+			}
+			break;
+		}
+		ScalarBatchKernel.INSTANCE.calculate(values, operands, operator, results, divisionByZero, i, to);
+	}
+
+	@Override
+	public void power(double[] values, int exponent, double[] results, long[] negative, int from, int to) {
+		int step = SPECIES.length();
+		int bound = from + SPECIES.loopBound(to - from);
+		DoubleVector one = DoubleVector.broadcast(SPECIES, 1.0);
+		int i = from;
+		for(; i < bound; i += step) {
+			DoubleVector value = DoubleVector.fromArray(SPECIES, values, i);
+			DoubleVector result = one;
+			for(int e = 0; e < exponent; e++) {
+				result = result.mul(value);
+			}
+			VectorMask<Double> below = value.lt(0.0);
+			result.blend(value, below).intoArray(results, i);
+			mark(negative, below, i);
+		}
+		ScalarBatchKernel.INSTANCE.power(values, exponent, results, negative, i, to);
+	}
+
+	/**
+	 * Sets the bits of the masked lanes of one vector in a bitmap.
+	 * The vector length is a power of two of at most 64 lanes, so a vector never spans two words
+	 * as long as the range starts at a multiple of it.
+	 *
+	 * @param bitmap The bitmap.
+	 * @param mask The masked lanes.
+	 * @param index The element of the first lane.
+	 */
+	private static void mark(long[] bitmap, VectorMask<Double> mask, int index) {
+		if(mask.anyTrue()) {
+			bitmap[index >>> 6] |= mask.toLong() << index;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package calculators;
+
+import java.util.Arrays;
+
+import exceptions.NotSupportedOperationException;
+
+/**
+ * The BatchCalculator class applies one calculator operation to a whole array of values,
+ * giving the same results as a separate {@link Calculator} or {@link CalculatorAdvanced} per element.
+ * Lanes that would throw an exception in the per-element calculators are not calculated;
+ * their result is the unchanged input value and they are reported in a bitmap,
+ * where bit {@code i % 64} of word {@code i / 64} stands for element i.
+ * When the {@code jdk.incubator.vector} module is present (run with {@code --add-modules jdk.incubator.vector})
+ * the loops use the Vector API; otherwise they fall back to plain Java loops with the same results.
+ * See {@code scripts/benchmark.sh Batch} for a comparison of the two.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class BatchCalculator {
+	/**
+	 * The name of the kernel written with the Vector API, which is compiled separately.
+	 */
+	private static final String VECTOR_KERNEL = "calculators.VectorBatchKernel";
+
+	/**
+	 * The kernel used when the Vector API is not available.
+	 */
+	static final BatchKernel SCALAR = ScalarBatchKernel.INSTANCE;
+
+	/**
+	 * The kernel used by the calculations.
+	 */
+	static final BatchKernel KERNEL = loadKernel();
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private BatchCalculator() {
+	}
+
+	/**
+	 * Loads the Vector API kernel, or the scalar kernel if the kernel or the
+	 * {@code jdk.incubator.vector} module is missing or the processor has no vectors.
+	 *
+	 * @return The kernel used by the calculations.
+	 */
+	private static BatchKernel loadKernel() {
+		try {
+			return (BatchKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+		} catch(ReflectiveOperationException | LinkageError e) {
+			return SCALAR;
+		}
+	}
+
+	/**
+	 * Checks if the calculations use the Vector API.
+	 *
+	 * @return True if the Vector API kernel is loaded, false if the plain Java loops are used.
+	 */
+	public static boolean isVectorized() {
+		return KERNEL != SCALAR;
+	}
+
+	/**
+	 * Gets the number of bitmap words needed for the given number of elements.
+	 *
+	 * @param length The number of elements.
+	 * @return The number of long words in the bitmap.
+	 */
+	public static int bitmapLength(int length) {
+		return (length + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	/**
+	 * Applies a basic arithmetic operation with the same operand to every value,
+	 * as {@link Calculator#calculate(Double, char)} does for one value.
+	 *
+	 * @param values The current values.
+	 * @param operand The value to operate with.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @param results The array that receives the results; it may be the same array as the values.
+	 * @param divisionByZero The bitmap that receives the lanes where division by zero was attempted.
+	 * @throws NotSupportedOperationException If the operator is not one of the supported operations.
+	 * @throws IllegalArgumentException If the arrays are null or too short.
+	 */
+	public static void calculate(double[] values, double operand, char operator, double[] results, long[] divisionByZero)
+			throws NotSupportedOperationException {
+		calculate(KERNEL, values, operand, operator, results, divisionByZero);
+	}
+
+	/**
+	 * Applies a basic arithmetic operation with the same operand to every value with the given kernel.
+	 *
+	 * @param kernel The kernel that runs the loops.
+	 * @param values The current values.
+	 * @param operand The value to operate with.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @param results The array that receives the results.
+	 * @param divisionByZero The bitmap that receives the lanes where division by zero was attempted.
+	 * @throws NotSupportedOperationException If the operator is not one of the supported operations.
+	 */
+	static void calculate(BatchKernel kernel, double[] values, double operand, char operator, double[] results,
+			long[] divisionByZero) throws NotSupportedOperationException {
+		checkArrays(values, results, divisionByZero);
+		checkOperator(operator);
+		int length = values.length;
+		Arrays.fill(divisionByZero, 0, bitmapLength(length), 0L);
+		if(operator == '/' && operand == 0) {
+			System.arraycopy(values, 0, results, 0, length);
+			markAll(divisionByZero, length);
+			return;
+		}
+		kernel.calculate(values, operand, operator, results, 0, length);
+	}
+
+	/**
+	 * Applies a basic arithmetic operation with a separate operand to every value,
+	 * as {@link Calculator#calculate(Double, char)} does for one value.
+	 *
+	 * @param values The current values.
+	 * @param operands The values to operate with, one per current value.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @param results The array that receives the results; it may be the same array as the values or the operands.
+	 * @param divisionByZero The bitmap that receives the lanes where division by zero was attempted.
+	 * @throws NotSupportedOperationException If the operator is not one of the supported operations.
+	 * @throws IllegalArgumentException If the arrays are null or too short.
+	 */
+	public static void calculate(double[] values, double[] operands, char operator, double[] results, long[] divisionByZero)
+			throws NotSupportedOperationException {
+		calculate(KERNEL, values, operands, operator, results, divisionByZero);
+	}
+
+	/**
+	 * Applies a basic arithmetic operation with a separate operand to every value with the given kernel.
+	 *
+	 * @param kernel The kernel that runs the loops.
+	 * @param values The current values.
+	 * @param operands The values to operate with, one per current value.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @param results The array that receives the results.
+	 * @param divisionByZero The bitmap that receives the lanes where division by zero was attempted.
+	 * @throws NotSupportedOperationException If the operator is not one of the supported operations.
+	 */
+	static void calculate(BatchKernel kernel, double[] values, double[] operands, char operator, double[] results,
+			long[] divisionByZero) throws NotSupportedOperationException {
+		checkArrays(values, results, divisionByZero);
+		if(operands == null || operands.length != values.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+		checkOperator(operator);
+		int length = values.length;
+		Arrays.fill(divisionByZero, 0, bitmapLength(length), 0L);
+		kernel.calculate(values, operands, operator, results, divisionByZero, 0, length);
+	}
+
+	/**
+	 * Raises every value to the power of a digit,
+	 * as {@link CalculatorAdvanced#calculateAdvanced(char)} does for one value.
+	 *
+	 * @param values The current values.
+	 * @param action The character representing the power (0-9).
+	 * @param results The array that receives the results; it may be the same array as the values.
+	 * @param negative The bitmap that receives the lanes holding a negative number.
+	 * @throws NotSupportedOperationException If the action is not a digit.
+	 * @throws IllegalArgumentException If the arrays are null or too short.
+	 */
+	public static void power(double[] values, char action, double[] results, long[] negative)
+			throws NotSupportedOperationException {
+		power(KERNEL, values, action, results, negative);
+	}
+
+	/**
+	 * Raises every value to the power of a digit with the given kernel.
+	 *
+	 * @param kernel The kernel that runs the loops.
+	 * @param values The current values.
+	 * @param action The character representing the power (0-9).
+	 * @param results The array that receives the results.
+	 * @param negative The bitmap that receives the lanes holding a negative number.
+	 * @throws NotSupportedOperationException If the action is not a digit.
+	 */
+	static void power(BatchKernel kernel, double[] values, char action, double[] results, long[] negative)
+			throws NotSupportedOperationException {
+		if(action < '0' || action > '9') {
+			throw new NotSupportedOperationException("Action not supported");
+		}
+		checkArrays(values, results, negative);
+		int length = values.length;
+		Arrays.fill(negative, 0, bitmapLength(length), 0L);
+		kernel.power(values, action - '0', results, negative, 0, length);
+	}
+
+	/**
+	 * Checks that an operator is one of the supported arithmetic operators.
+	 *
+	 * @param operator The operator.
+	 * @throws NotSupportedOperationException If the operator is not one of the supported operations.
+	 */
+	private static void checkOperator(char operator) throws NotSupportedOperationException {
+		if(operator != '+' && operator != '-' && operator != '*' && operator != '/') {
+			throw new NotSupportedOperationException("Operation not supported");
+		}
+	}
+
+	/**
+	 * Checks that the value, result and bitmap arrays fit together.
+	 *
+	 * @param values The current values.
+	 * @param results The array that receives the results.
+	 * @param bitmap The bitmap that receives the masked lanes.
+	 * @throws IllegalArgumentException If the arrays are null or too short.
+	 */
+	private static void checkArrays(double[] values, double[] results, long[] bitmap) {
+		if(values == null || results == null || values.length != results.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+		if(bitmap == null || bitmap.length < bitmapLength(values.length)) {
+			throw new IllegalArgumentException("Bitmap too short");
+		}
+	}
+
+	/**
+	 * Sets the bits of the first elements in a bitmap.
+	 *
+	 * @param bitmap The bitmap.
+	 * @param length The number of elements to mark.
+	 */
+	private static void markAll(long[] bitmap, int length) {
+		int full = length / Long.SIZE;
+		Arrays.fill(bitmap, 0, full, -1L);
+		if(length % Long.SIZE != 0) {
+			bitmap[full] = (1L << length) - 1;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package calculators;
+
+/**
+ * The loops behind {@link BatchCalculator}, applied to a range of elements.
+ * The operators and actions are validated and the bitmaps cleared before a kernel is called,
+ * so a kernel only calculates the lanes and sets the bits of the masked ones.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+interface BatchKernel {
+	/**
+	 * Applies a basic arithmetic operation with the same operand to a range of values.
+	 *
+	 * @param values The current values.
+	 * @param operand The value to operate with, not zero for division.
+	 * @param operator One of {@code + - * /}.
+	 * @param results The array that receives the results.
+	 * @param from The first element of the range.
+	 * @param to The element after the last one of the range.
+	 */
+	void calculate(double[] values, double operand, char operator, double[] results, int from, int to);
+
+	/**
+	 * Applies a basic arithmetic operation with a separate operand to a range of values.
+	 * Division lanes with a zero operand keep the current value and are marked in the bitmap.
+	 *
+	 * @param values The current values.
+	 * @param operands The values to operate with, one per current value.
+	 * @param operator One of {@code + - * /}.
+	 * @param results The array that receives the results.
+	 * @param divisionByZero The bitmap that receives the lanes where division by zero was attempted.
+	 * @param from The first element of the range.
+	 * @param to The element after the last one of the range.
+	 */
+	void calculate(double[] values, double[] operands, char operator, double[] results, long[] divisionByZero,
+			int from, int to);
+
+	/**
+	 * Raises a range of values to a power.
+	 * Negative lanes keep the current value and are marked in the bitmap.
+	 *
+	 * @param values The current values.
+	 * @param exponent The power, from 0 to 9.
+	 * @param results The array that receives the results.
+	 * @param negative The bitmap that receives the lanes holding a negative number.
+	 * @param from The first element of the range.
+	 * @param to The element after the last one of the range.
+	 */
+	void power(double[] values, int exponent, double[] results, long[] negative, int from, int to);
+}
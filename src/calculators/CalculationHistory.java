@@ -0,0 +1,180 @@
+package calculators;
+
+/**
+ * A fixed-capacity undo/redo history of calculator values.
+ * The values are kept in a primitive ring buffer, so recording a value never allocates
+ * and the memory used by one history is fixed when it is created.
+ * When the buffer is full, recording a new value overwrites the oldest one.
+ * Recording a value after one or more undo steps discards the redo part of the history.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class CalculationHistory {
+	/**
+	 * The ring buffer holding the recorded values.
+	 */
+	private final double[] values;
+
+	/**
+	 * The index in the buffer of the oldest recorded value.
+	 */
+	private int head;
+
+	/**
+	 * The number of values currently recorded.
+	 */
+	private int size;
+
+	/**
+	 * The position of the current value, counted from the oldest recorded value.
+	 */
+	private int position;
+
+	/**
+	 * Constructs a new history that can undo up to the given number of steps.
+	 *
+	 * @param depth The maximum number of undo steps.
+	 * @throws IllegalArgumentException If the depth is negative.
+	 */
+	public CalculationHistory(int depth) {
+		if(depth < 0) {
+			throw new IllegalArgumentException("Negative history depth");
+		}
+		this.values = new double[depth + 1];
+		this.head = 0;
+		this.size = 0;
+		this.position = -1;
+	}
+
+	/**
+	 * Records a new current value.
+	 * Any values that could have been redone are discarded.
+	 *
+	 * @param value The value to record.
+	 */
+	public void record(double value) {
+		size = position + 1;
+		if(size == values.length) {
+			head = (head + 1) % values.length;
+			size--;
+		}
+		values[(head + size) % values.length] = value;
+		size++;
+		position = size - 1;
+	}
+
+	/**
+	 * Checks if there is a previous value to return to.
+	 *
+	 * @return True if undo is possible, false otherwise.
+	 */
+	public boolean canUndo() {
+		return position > 0;
+	}
+
+	/**
+	 * Checks if there is an undone value to return to.
+	 *
+	 * @return True if redo is possible, false otherwise.
+	 */
+	public boolean canRedo() {
+		return position < size - 1;
+	}
+
+	/**
+	 * Moves one step back in the history.
+	 *
+	 * @return The value that is current after the step.
+	 * @throws IllegalStateException If there is nothing to undo.
+	 */
+	public double undo() {
+		if(!canUndo()) {
+			throw new IllegalStateException("Nothing to undo");
+		}
+		position--;
+		return get(position);
+	}
+
+	/**
+	 * Moves one step forward in the history.
+	 *
+	 * @return The value that is current after the step.
+	 * @throws IllegalStateException If there is nothing to redo.
+	 */
+	public double redo() {
+		if(!canRedo()) {
+			throw new IllegalStateException("Nothing to redo");
+		}
+		position++;
+		return get(position);
+	}
+
+	/**
+	 * Moves to an arbitrary point in the history.
+	 * The values after that point stay available for redo until a new value is recorded.
+	 *
+	 * @param index The position to move to, where 0 is the oldest recorded value.
+	 * @return The value at the given position.
+	 * @throws IllegalArgumentException If the position is not in the history.
+	 */
+	public double jumpTo(int index) {
+		if(index < 0 || index >= size) {
+			throw new IllegalArgumentException("History index out of range");
+		}
+		position = index;
+		return get(position);
+	}
+
+	/**
+	 * Gets the value at a position in the history without moving to it.
+	 *
+	 * @param index The position, where 0 is the oldest recorded value.
+	 * @return The value at the given position.
+	 * @throws IllegalArgumentException If the position is not in the history.
+	 */
+	public double valueAt(int index) {
+		if(index < 0 || index >= size) {
+			throw new IllegalArgumentException("History index out of range");
+		}
+		return get(index);
+	}
+
+	/**
+	 * Gets the number of values currently recorded, including undone ones.
+	 *
+	 * @return The number of recorded values.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the position of the current value, where 0 is the oldest recorded value.
+	 *
+	 * @return The current position, or -1 if nothing is recorded.
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * Gets the maximum number of undo steps.
+	 *
+	 * @return The history depth.
+	 */
+	public int getDepth() {
+		return values.length - 1;
+	}
+
+	/**
+	 * Reads the value at a position relative to the oldest recorded value.
+	 *
+	 * @param index The position to read.
+	 * @return The value at the position.
+	 */
+	private double get(int index) {
+		return values[(head + index) % values.length];
+	}
+}
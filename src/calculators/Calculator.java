@@ -1,4 +1,8 @@
 package calculators;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.function.DoubleConsumer;
+
 import exceptions.DivisionByZeroException;
 import exceptions.NotSupportedOperationException;
 
@@ -7,6 +11,9 @@ import exceptions.NotSupportedOperationException;
  * The calculator holds a current value, which can be manipulated using various operations.
  * Supported operations include addition, subtraction, multiplication, and division.
  * The calculator also handles exceptions for division by zero and unsupported operations.
+ * Every change of the current value is recorded in a bounded history, so changes can be undone and redone.
+ * An optional precision mode keeps an exact decimal value alongside the double current value.
+ * A result listener can subscribe to every new current value, for example to keep statistics.
  * 
  * @author Tamara Kosovac
  * @version 1.0
@@ -16,13 +23,46 @@ public class Calculator {
 	/**
 	 * Represents the current value stored in the calculator.
 	 */
-	private Double currentValue;
+	private double currentValue;
+	
+	/**
+	 * The default number of undo steps kept by a calculator.
+	 */
+	public static final int DEFAULT_HISTORY_DEPTH = 32;
+	
+	/**
+	 * The history of values taken by the current value.
+	 */
+	private final CalculationHistory history;
+	
+	/**
+	 * The exact value kept while the precision mode is enabled, or null when it is disabled.
+	 */
+	private ExactDecimal exact;
+	
+	/**
+	 * The listener that receives every new current value, or null.
+	 */
+	private DoubleConsumer resultListener;
 	
 	/**
 	 * Constructs a new Calculator instance with an initial current value of 0.0.
 	 */
 	public Calculator() {
+		this(DEFAULT_HISTORY_DEPTH);
+	}
+	
+	/**
+	 * Constructs a new Calculator instance with an initial current value of 0.0
+	 * that can undo up to the given number of steps.
+	 * 
+	 * @param historyDepth The maximum number of undo steps.
+	 * @throws IllegalArgumentException If the history depth is negative.
+	 */
+	public Calculator(int historyDepth) {
+		this.history = new CalculationHistory(historyDepth);
 		this.currentValue = 0.0;
+		this.history.record(0.0);
 	}
 	
 	/**
@@ -38,9 +78,181 @@ public class Calculator {
 	 * Sets the current value of the calculator.
 	 * 
 	 * @param currentValue The value to set as the current value.
+	 * @throws IllegalArgumentException If the provided value is null.
 	 */
 	public void setCurrentValue(Double currentValue) {
-		this.currentValue = currentValue;
+		if(currentValue == null) {
+			throw new IllegalArgumentException("Value cannot be null");
+		}
+		setValue(currentValue);
+	}
+	
+	/**
+	 * Gets the current value without boxing it.
+	 * 
+	 * @return the current value
+	 */
+	double value() {
+		return this.currentValue;
+	}
+	
+	/**
+	 * Sets the current value without boxing it, recording it in the history.
+	 * 
+	 * @param value The value to set as the current value.
+	 */
+	void setValue(double value) {
+		store(value);
+		reseed();
+	}
+	
+	/**
+	 * Enables the precision mode, or disables it when the math context is null.
+	 * In precision mode, {@link #calculate(Double, char)} works on exact decimal values
+	 * and the double current value is the exact value rounded to the nearest double.
+	 * Operands are taken as the shortest decimal number that converts to the given double,
+	 * so adding 0.1 and 0.2 gives exactly 0.3.
+	 * Results are computed in scaled long arithmetic while they fit, and exactly;
+	 * the math context is only used to round results that need BigDecimal, such as 1 / 3.
+	 * Setting the current value directly, undo and redo restart the exact value from the double current value.
+	 * 
+	 * The context must have a limited precision, because results such as 1 / 3 have no exact decimal value.
+	 * 
+	 * @param mathContext The context used to round results that need BigDecimal, or null to disable the mode.
+	 * @throws IllegalArgumentException If the context has unlimited precision.
+	 */
+	public void setPrecisionMode(MathContext mathContext) {
+		if(mathContext != null && mathContext.getPrecision() == 0) {
+			throw new IllegalArgumentException("Precision must be limited");
+		}
+		this.exact = null;
+		if(mathContext != null) {
+			this.exact = new ExactDecimal(mathContext, currentValue);
+		}
+	}
+	
+	/**
+	 * Gets the math context of the precision mode.
+	 * 
+	 * @return the math context, or null if the precision mode is disabled
+	 */
+	public MathContext getPrecisionMode() {
+		return exact == null ? null : exact.getMathContext();
+	}
+	
+	/**
+	 * Gets the current value as a decimal number.
+	 * In precision mode this is the exact value; otherwise it is the decimal value of the double current value.
+	 * 
+	 * @return the current value as a BigDecimal
+	 * @throws NumberFormatException If the current value is infinite or NaN.
+	 */
+	public BigDecimal getExactValue() {
+		if(exact != null && exact.isDefined()) {
+			return exact.toBigDecimal();
+		}
+		return BigDecimal.valueOf(currentValue);
+	}
+	
+	/**
+	 * Sets the listener that receives every new current value, including values restored
+	 * by undo and redo. The listener runs on the thread that changed the value, so it should be cheap.
+	 * 
+	 * @param resultListener The listener, or null to remove it.
+	 */
+	public void setResultListener(DoubleConsumer resultListener) {
+		this.resultListener = resultListener;
+	}
+	
+	/**
+	 * Gets the listener that receives every new current value.
+	 * 
+	 * @return the listener, or null if there is none
+	 */
+	public DoubleConsumer getResultListener() {
+		return resultListener;
+	}
+	
+	/**
+	 * Gets the number of values in the history, including undone ones.
+	 * The history itself is not exposed, so it can only move together with the current value.
+	 * 
+	 * @return the number of recorded values
+	 */
+	public int getHistorySize() {
+		return history.size();
+	}
+	
+	/**
+	 * Gets the position of the current value in the history, where 0 is the oldest recorded value.
+	 * 
+	 * @return the current position
+	 */
+	public int getHistoryPosition() {
+		return history.getPosition();
+	}
+	
+	/**
+	 * Gets the value at a position in the history without moving to it.
+	 * 
+	 * @param index The position, where 0 is the oldest recorded value.
+	 * @return the value at the given position
+	 * @throws IllegalArgumentException If the position is not in the history.
+	 */
+	public double getHistoryValue(int index) {
+		return history.valueAt(index);
+	}
+	
+	/**
+	 * Checks if there is a previous value to return to.
+	 * 
+	 * @return True if undo is possible, false otherwise.
+	 */
+	public boolean canUndo() {
+		return history.canUndo();
+	}
+	
+	/**
+	 * Checks if there is an undone value to return to.
+	 * 
+	 * @return True if redo is possible, false otherwise.
+	 */
+	public boolean canRedo() {
+		return history.canRedo();
+	}
+	
+	/**
+	 * Restores the current value to the value it had before the last change.
+	 * 
+	 * @throws IllegalStateException If there is nothing to undo.
+	 */
+	public void undo() {
+		this.currentValue = history.undo();
+		reseed();
+		notifyListener();
+	}
+	
+	/**
+	 * Restores the current value to the value it had before the last undo.
+	 * 
+	 * @throws IllegalStateException If there is nothing to redo.
+	 */
+	public void redo() {
+		this.currentValue = history.redo();
+		reseed();
+		notifyListener();
+	}
+	
+	/**
+	 * Restores the current value to the value at the given point in the history.
+	 * 
+	 * @param index The position in the history, where 0 is the oldest recorded value.
+	 * @throws IllegalArgumentException If the position is not in the history.
+	 */
+	public void jumpTo(int index) {
+		this.currentValue = history.jumpTo(index);
+		reseed();
+		notifyListener();
 	}
 	
 	/**
@@ -59,24 +271,63 @@ public class Calculator {
 			throw new IllegalArgumentException("Value cannot be null");
 		}
 		
+		double result;
 		switch(operator) {
 		case '+':
-			currentValue += value;
+			result = currentValue + value;
 			break;
 		case '-':
-			currentValue -= value;
+			result = currentValue - value;
 			break;
 		case '*':
-			currentValue *= value;
+			result = currentValue * value;
 			break;
 		case '/':
 			if(value == 0) {
 				throw new DivisionByZeroException("Cannot divide by zero");
 			}
-			currentValue /= value;
+			result = currentValue / value;
 			break;
 		default: 
 			throw new NotSupportedOperationException("Operation not supported");
 		}
+		
+		if(exact == null) {
+			store(result);
+		} else if(exact.isDefined() && Double.isFinite(value)) {
+			store(exact.apply(value, operator));
+		} else {
+			store(result);
+			exact.set(result);
+		}
+	}
+	
+	/**
+	 * Records a new current value in the history and stores it.
+	 * 
+	 * @param value The new current value.
+	 */
+	private void store(double value) {
+		history.record(value);
+		this.currentValue = value;
+		notifyListener();
+	}
+	
+	/**
+	 * Restarts the exact value of the precision mode from the double current value.
+	 */
+	private void reseed() {
+		if(exact != null) {
+			exact.set(currentValue);
+		}
+	}
+	
+	/**
+	 * Passes the current value to the result listener, if there is one.
+	 */
+	private void notifyListener() {
+		if(resultListener != null) {
+			resultListener.accept(currentValue);
+		}
 	}
 }
@@ -1,7 +1,10 @@
 package calculators;
 
+import java.math.BigDecimal;
+
 import exceptions.NumberNotInAreaException;
 import exceptions.NotSupportedOperationException;
+import exceptions.OperationCancelledException;
 
 /**
  * The CalculatorAdvanced class extends the basic Calculator functionality
@@ -13,48 +16,67 @@ import exceptions.NotSupportedOperationException;
  * @since 2024-12-12
  */
 public class CalculatorAdvanced extends Calculator {
+	/**
+	 * The smallest double that does not fit in a long.
+	 */
+	static final double LONG_LIMIT = 0x1p63;
+	
 	/**
 	 * Default constructor that initializes the advanced calculator.
 	 */
 	public CalculatorAdvanced() {
 		super();
 	}
+	
+	/**
+	 * Constructs an advanced calculator that can undo up to the given number of steps.
+	 * 
+	 * @param historyDepth The maximum number of undo steps.
+	 * @throws IllegalArgumentException If the history depth is negative.
+	 */
+	public CalculatorAdvanced(int historyDepth) {
+		super(historyDepth);
+	}
 
 	/**
 	 * Performs advanced calculations based on the provided action.
+	 * The factorial ('!') is defined for real values through the gamma function, so 4.5! is gamma(5.5).
 	 * 
 	 * @param action The operation to perform.
 	 * @throws NumberNotInAreaException If the current value is out of the allowed range for the action.
 	 * @throws NotSupportedOperationException If the action is not supported.
 	 */
 	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException{
-		Double currentValue = getCurrentValue();
+		double currentValue = value();
 		if(action == '!') {
 			if(currentValue < 0.0 || currentValue > 10.0) {
 				throw new NumberNotInAreaException("Number not in area");
 			}
-			setCurrentValue(factorial(currentValue.intValue()));
+			setValue(Gamma.factorial(currentValue));
 		} else if(action >= '0' && action <= '9') {
 			if(currentValue < 0.0) {
 				throw new IllegalArgumentException("Negative number");
 			}
-			setCurrentValue(powerChar(currentValue, action));
+			setValue(powerChar(currentValue, action));
 		} else {
 			throw new NotSupportedOperationException("Action not supported");
 		}
 	}
-	
+
 	/**
-	 * Calculates the factorial of a given integer using recursion.
+	 * Performs advanced calculations unless the token was cancelled or its deadline has passed.
+	 * Both actions take constant time, so the token is checked once before the calculation.
 	 * 
-	 * @param n The integer for which the factorial is calculated.
-	 * @return The factorial of the given integer as a Double.
+	 * @param action The operation to perform.
+	 * @param token The token that stops the calculation.
+	 * @throws NumberNotInAreaException If the current value is out of the allowed range for the action.
+	 * @throws NotSupportedOperationException If the action is not supported.
+	 * @throws OperationCancelledException If the token was cancelled or its deadline has passed; the current value is unchanged.
 	 */
-	private Double factorial(int n) {
-		if (n == 0) {
-            return 1.0;
-        }
-        return n * factorial(n - 1);
+	public void calculateAdvanced(char action, CancellationToken token)
+			throws NumberNotInAreaException, NotSupportedOperationException, OperationCancelledException {
+		token.throwIfCancelled();
+		calculateAdvanced(action);
 	}
 	
 	/**
@@ -62,99 +84,133 @@ public class CalculatorAdvanced extends Calculator {
 	 * 
 	 * @param value The base value.
 	 * @param action The character representing the power (0-9).
-	 * @return The result of raising the value to the specified power as a Double.
+	 * @return The result of raising the value to the specified power.
 	 */
-	private Double powerChar(Double value, char action) {
-	    int exponent = action - '0';  
-	    if (exponent == 0) {
-	        return 1.0;
+	private double powerChar(double value, char action) {
+	    int exponent = action - '0';
+	    double result = 1.0;
+	    for (int i = 0; i < exponent; i++) {
+	        result = value * result;
 	    }
-	    return value * powerChar(value, (char) (exponent - 1 + '0'));  
+	    return result;
 	}
 
 
 	/**
 	 * Checks if the current value has a specific characteristic.
+	 * The integer part of the current value is checked, over the full range of doubles.
 	 * 
 	 * @param value The characteristic to check.
 	 * @return True if the current value has the characteristic, false otherwise.
-	 * @throws NumberNotInAreaException If the current value is less than 1.
+	 * @throws NumberNotInAreaException If the current value is less than 1 or is not finite.
 	 * @throws NotSupportedOperationException If the value is not a supported characteristic.
 	 */
 	public Boolean hasCharacteristic(char value) throws NumberNotInAreaException, NotSupportedOperationException {
-		Double currentValue = getCurrentValue();
-		if (currentValue.intValue() < 1) {
+		return hasCharacteristic(value(), value);
+	}
+
+	/**
+	 * Checks if the current value has a specific characteristic,
+	 * stopping the check once the token is cancelled or its deadline has passed.
+	 * The token is checked before and after the check. A double has only 53 significant bits,
+	 * so the check itself stays short: a perfect candidate needs a Lucas-Lehmer test of at most
+	 * 53 squarings and an Armstrong candidate has at most 60 digits. To stop a long check of
+	 * a larger number, use {@link Characteristics#isPerfect(java.math.BigInteger, CancellationToken)}.
+	 * 
+	 * @param value The characteristic to check.
+	 * @param token The token that stops the check.
+	 * @return True if the current value has the characteristic, false otherwise.
+	 * @throws NumberNotInAreaException If the current value is less than 1 or is not finite.
+	 * @throws NotSupportedOperationException If the value is not a supported characteristic.
+	 * @throws OperationCancelledException If the token was cancelled or its deadline has passed.
+	 */
+	public Boolean hasCharacteristic(char value, CancellationToken token)
+			throws NumberNotInAreaException, NotSupportedOperationException, OperationCancelledException {
+		token.throwIfCancelled();
+		boolean result = hasCharacteristic(value(), value, token);
+		token.throwIfCancelled();
+		return result;
+	}
+	
+	/**
+	 * Checks if the integer part of a value has a specific characteristic.
+	 * 
+	 * @param currentValue The value to check.
+	 * @param value The characteristic to check.
+	 * @return True if the value has the characteristic, false otherwise.
+	 * @throws NumberNotInAreaException If the value is less than 1 or is not finite.
+	 * @throws NotSupportedOperationException If the characteristic is not supported.
+	 */
+	static boolean hasCharacteristic(double currentValue, char value) throws NumberNotInAreaException, NotSupportedOperationException {
+		return hasCharacteristic(currentValue, value, CancellationToken.NONE);
+	}
+
+	/**
+	 * Checks if the integer part of a value has a specific characteristic, giving up with false once the token is cancelled.
+	 * 
+	 * @param currentValue The value to check.
+	 * @param value The characteristic to check.
+	 * @param token The token that stops the check.
+	 * @return True if the value has the characteristic, false otherwise or if the check was stopped.
+	 * @throws NumberNotInAreaException If the value is less than 1 or is not finite.
+	 * @throws NotSupportedOperationException If the characteristic is not supported.
+	 */
+	private static boolean hasCharacteristic(double currentValue, char value, CancellationToken token)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		if (!(currentValue >= 1.0) || Double.isInfinite(currentValue)) {
             throw new NumberNotInAreaException("Number not in area");
         }
+		boolean fitsLong = currentValue < LONG_LIMIT;
 		if (value == 'A') {
-            return isArmstrong(currentValue.intValue());
+            return fitsLong ? Characteristics.isArmstrong((long) currentValue)
+            		: Characteristics.isArmstrong(new BigDecimal(currentValue).toBigInteger(), token);
         } else if (value == 'P') {
-            return isPerfect(currentValue.intValue());
+            return fitsLong ? Characteristics.isPerfect((long) currentValue)
+            		: Characteristics.isPerfectUnlessCancelled(new BigDecimal(currentValue).toBigInteger(), token);
         } else {
             throw new NotSupportedOperationException("Action not supported");
         }
 	}
 	
 	/**
-	 * Determines if a given integer is an Armstrong number. 
+	 * Classifies the current value by all characteristics at once, as in {@link Characteristics#classify(int)}.
+	 * The integer part of the current value is classified.
 	 * 
-	 * @param number The integer to check.
-	 * @return True if the number is an Armstrong number, false otherwise.
+	 * @return The bitmask of the characteristics of the current value.
+	 * @throws NumberNotInAreaException If the current value is less than 1 or does not fit in an int.
 	 */
-	private Boolean isArmstrong(int number) {
-	    return isArmstrongHelper(number, number, String.valueOf(number).length(), 0);
+	public int characteristics() throws NumberNotInAreaException {
+		return classifyValue(CancellationToken.NONE);
 	}
 
 	/**
-	 * Helper method to determine if a number is an Armstrong number using recursion.
-	 *  
-	 * @param originalNumber The original number being checked.
-	 * @param number The remaining part of the number.
-	 * @param digits The number of digits in the original number.
-	 * @param sum The cumulative sum of digits raised to the power of the digit count.
-	 * @return True if the number is an Armstrong number, false otherwise.
-	 */
-	private Boolean isArmstrongHelper(int originalNumber, int number, int digits, double sum) {
-	    if (number == 0) {
-	        return sum == originalNumber;
-	    }
-	    int digit = number % 10;
-	    sum += pow(digit, digits);
-	    return isArmstrongHelper(originalNumber, number / 10, digits, sum);
-	}
-	
-	/**
-	 * Calculates the power of a base raised to an exponent using recursion.
+	 * Classifies the current value by all characteristics at once,
+	 * stopping the classification once the token is cancelled or its deadline has passed.
 	 * 
-	 * @param base The base integer.
-	 * @param exponent The exponent integer.
-	 * @return The result of base raised to the exponent as an integer.
+	 * @param token The token that stops the classification.
+	 * @return The bitmask of the characteristics of the current value.
+	 * @throws NumberNotInAreaException If the current value is less than 1 or does not fit in an int.
+	 * @throws OperationCancelledException If the token was cancelled or its deadline has passed.
 	 */
-	private int pow(int base, int exponent) {
-		if (exponent == 0) {
-	        return 1;
-	    }
-	    return base * pow(base, exponent - 1);
+	public int characteristics(CancellationToken token) throws NumberNotInAreaException, OperationCancelledException {
+		token.throwIfCancelled();
+		int mask = classifyValue(token);
+		token.throwIfCancelled();
+		return mask;
 	}
 
 	/**
-	 * Determines if a given integer is a perfect number.
+	 * Classifies the integer part of the current value.
 	 * 
-	 * @param number The integer to check.
-	 * @return True if the number is a perfect number, false otherwise.
+	 * @param token The token that stops the classification.
+	 * @return The bitmask of the characteristics of the current value.
+	 * @throws NumberNotInAreaException If the current value is less than 1 or does not fit in an int.
 	 */
-	private Boolean isPerfect(int number) {
-		if (number == 1) {
-            return false;
-        }
-
-        int sum = 0;
-        for (int i = 1; i <= number / 2; i++) {
-            if (number % i == 0) {
-                sum += i;
-            }
+	private int classifyValue(CancellationToken token) throws NumberNotInAreaException {
+		double currentValue = value();
+		if (!(currentValue >= 1.0) || currentValue >= 0x1p31) {
+            throw new NumberNotInAreaException("Number not in area");
         }
-
-        return sum == number;
+		return Characteristics.classify((int) currentValue, token);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+package calculators;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import exceptions.DivisionByZeroException;
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+/**
+ * A command-line front end for the {@link CalculatorAdvanced} class.
+ * An expression is a start value followed by operations that are applied from left to right:
+ * <ul>
+ * <li>{@code + - * /} followed by a value, as in {@link Calculator#calculate(Double, char)},</li>
+ * <li>{@code !} and {@code ^0} to {@code ^9}, as in {@link CalculatorAdvanced#calculateAdvanced(char)},</li>
+ * <li>{@code A} or {@code P} as the last token, as in {@link CalculatorAdvanced#hasCharacteristic(char)}.</li>
+ * </ul>
+ * For example {@code 2 + 1 ^2 !} prints the factorial of 9.
+ * The expression is taken from the arguments; without arguments every line of standard input
+ * is evaluated as one expression. Errors are printed to standard error and make the exit status 1.
+ * The class avoids lambdas, regular expressions and streams so that a cold start loads few classes;
+ * see {@code scripts/cds-archive.sh} for building a class-data-sharing archive of a training run.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class CalculatorCli {
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private CalculatorCli() {
+	}
+
+	/**
+	 * Evaluates the expression given in the arguments, or every line of standard input.
+	 *
+	 * @param args The tokens of the expression.
+	 * @throws IOException If standard input cannot be read.
+	 */
+	public static void main(String[] args) throws IOException {
+		PrintStream out = System.out;
+		boolean failed = false;
+		if(args.length > 0) {
+			failed = !print(args, out);
+		} else {
+			BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+			String line;
+			while((line = in.readLine()) != null) {
+				String[] tokens = tokenize(line);
+				if(tokens.length > 0 && !print(tokens, out)) {
+					failed = true;
+				}
+			}
+		}
+		out.flush();
+		if(failed) {
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Evaluates an expression.
+	 *
+	 * @param tokens The tokens of the expression.
+	 * @return The current value after the last operation, or the result of the characteristic check.
+	 * @throws DivisionByZeroException If division by zero is attempted.
+	 * @throws NotSupportedOperationException If a token is not a supported operation.
+	 * @throws NumberNotInAreaException If a value is out of the allowed range for an operation.
+	 * @throws IllegalArgumentException If the expression or one of its tokens is empty, a value is missing or is not a number.
+	 */
+	public static String evaluate(String... tokens)
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		if(tokens.length == 0) {
+			throw new IllegalArgumentException("Empty expression");
+		}
+		for(String token : tokens) {
+			if(token.isEmpty()) {
+				throw new IllegalArgumentException("Empty token");
+			}
+		}
+		CalculatorAdvanced calculator = new CalculatorAdvanced(0);
+		calculator.setCurrentValue(parse(tokens[0]));
+		for(int i = 1; i < tokens.length; i++) {
+			String token = tokens[i];
+			char operator = token.charAt(0);
+			if(token.length() == 1 && (operator == '+' || operator == '-' || operator == '*' || operator == '/')) {
+				if(++i == tokens.length) {
+					throw new IllegalArgumentException("Missing value");
+				}
+				calculator.calculate(parse(tokens[i]), operator);
+			} else if(token.equals("!")) {
+				calculator.calculateAdvanced('!');
+			} else if(token.length() == 2 && operator == '^' && token.charAt(1) >= '0' && token.charAt(1) <= '9') {
+				calculator.calculateAdvanced(token.charAt(1));
+			} else if(token.length() == 1 && i == tokens.length - 1) {
+				return calculator.hasCharacteristic(operator).toString();
+			} else {
+				throw new NotSupportedOperationException("Operation not supported");
+			}
+		}
+		return calculator.getCurrentValue().toString();
+	}
+
+	/**
+	 * Evaluates an expression and prints its result, or the error to standard error.
+	 *
+	 * @param tokens The tokens of the expression.
+	 * @param out The stream that receives the result.
+	 * @return True if the expression was evaluated, false otherwise.
+	 */
+	private static boolean print(String[] tokens, PrintStream out) {
+		try {
+			out.println(evaluate(tokens));
+			return true;
+		} catch(DivisionByZeroException | NotSupportedOperationException | NumberNotInAreaException
+				| IllegalArgumentException e) {
+			System.err.println("error: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Parses a value token.
+	 *
+	 * @param token The token.
+	 * @return The value.
+	 * @throws IllegalArgumentException If the token is not a number.
+	 */
+	private static Double parse(String token) {
+		try {
+			return Double.valueOf(token);
+		} catch(NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid number: " + token);
+		}
+	}
+
+	/**
+	 * Splits a line into tokens separated by whitespace.
+	 *
+	 * @param line The line.
+	 * @return The tokens.
+	 */
+	private static String[] tokenize(String line) {
+		List<String> tokens = new ArrayList<>();
+		int start = -1;
+		for(int i = 0; i <= line.length(); i++) {
+			boolean space = i == line.length() || Character.isWhitespace(line.charAt(i));
+			if(space && start >= 0) {
+				tokens.add(line.substring(start, i));
+				start = -1;
+			} else if(!space && start < 0) {
+				start = i;
+			}
+		}
+		return tokens.toArray(new String[0]);
+	}
+}
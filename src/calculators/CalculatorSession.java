@@ -0,0 +1,253 @@
+package calculators;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An asynchronous session around a {@link CalculatorAdvanced} that runs its operations on a shared executor.
+ * Operations of one session are applied in the order they were submitted, while different sessions
+ * run in parallel. Submitted operations are queued in a lock-free mailbox; the session is handed
+ * to the executor only while its mailbox holds work, and then applies up to {@link #BATCH_SIZE}
+ * operations before giving the thread back. No thread is blocked waiting for a busy session.
+ * The calculator of a session is only ever used by the thread currently draining its mailbox.
+ * Every submitted operation gets its future: if the executor rejects the session,
+ * the operations waiting in the mailbox are completed exceptionally with the {@link RejectedExecutionException}
+ * instead of being run later.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class CalculatorSession {
+	/**
+	 * The largest number of operations applied in one turn on the executor.
+	 */
+	public static final int BATCH_SIZE = 64;
+
+	/**
+	 * An operation applied to the calculator of the session.
+	 *
+	 * @param <T> The type of the result.
+	 */
+	@FunctionalInterface
+	private interface Operation<T> {
+		/**
+		 * Applies the operation.
+		 *
+		 * @param calculator The calculator of the session.
+		 * @return The result of the operation.
+		 * @throws Exception If the operation fails.
+		 */
+		T apply(CalculatorAdvanced calculator) throws Exception;
+	}
+
+	/**
+	 * An operation waiting in the mailbox together with its future.
+	 *
+	 * @param <T> The type of the result.
+	 */
+	private static final class Task<T> {
+		/**
+		 * The operation.
+		 */
+		private final Operation<T> operation;
+
+		/**
+		 * The future completed with the result of the operation.
+		 */
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		/**
+		 * Constructs a new task.
+		 *
+		 * @param operation The operation.
+		 */
+		Task(Operation<T> operation) {
+			this.operation = operation;
+		}
+
+		/**
+		 * Applies the operation and completes the future with its result or with anything it throws.
+		 *
+		 * @param calculator The calculator of the session.
+		 */
+		void run(CalculatorAdvanced calculator) {
+			try {
+				future.complete(operation.apply(calculator));
+			} catch(Throwable e) {
+				future.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * The calculator of the session.
+	 */
+	private final CalculatorAdvanced calculator;
+
+	/**
+	 * The executor that runs the operations.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The operations waiting to be applied.
+	 */
+	private final Queue<Task<?>> mailbox = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Whether the session is handed to the executor or running on it.
+	 */
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/**
+	 * Constructs a new session with a new calculator.
+	 *
+	 * @param executor The executor that runs the operations.
+	 */
+	public CalculatorSession(Executor executor) {
+		this(new CalculatorAdvanced(), executor);
+	}
+
+	/**
+	 * Constructs a new session around an existing calculator.
+	 * The calculator must not be used directly while the session is in use.
+	 *
+	 * @param calculator The calculator of the session.
+	 * @param executor The executor that runs the operations.
+	 * @throws IllegalArgumentException If the calculator or the executor is null.
+	 */
+	public CalculatorSession(CalculatorAdvanced calculator, Executor executor) {
+		if(calculator == null || executor == null) {
+			throw new IllegalArgumentException("Calculator and executor cannot be null");
+		}
+		this.calculator = calculator;
+		this.executor = executor;
+	}
+
+	/**
+	 * Applies {@link Calculator#calculate(Double, char)} after all previously submitted operations.
+	 *
+	 * @param value The value to operate with.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @return A future completed with the new current value, or with the exception of the calculation.
+	 */
+	public CompletableFuture<Double> calculate(Double value, char operator) {
+		return submit(c -> {
+			c.calculate(value, operator);
+			return c.getCurrentValue();
+		});
+	}
+
+	/**
+	 * Applies {@link CalculatorAdvanced#calculateAdvanced(char)} after all previously submitted operations.
+	 *
+	 * @param action The operation to perform.
+	 * @return A future completed with the new current value, or with the exception of the calculation.
+	 */
+	public CompletableFuture<Double> calculateAdvanced(char action) {
+		return submit(c -> {
+			c.calculateAdvanced(action);
+			return c.getCurrentValue();
+		});
+	}
+
+	/**
+	 * Applies {@link CalculatorAdvanced#hasCharacteristic(char)} after all previously submitted operations.
+	 *
+	 * @param value The characteristic to check.
+	 * @return A future completed with the result of the check, or with its exception.
+	 */
+	public CompletableFuture<Boolean> hasCharacteristic(char value) {
+		return submit(c -> c.hasCharacteristic(value));
+	}
+
+	/**
+	 * Sets the current value after all previously submitted operations.
+	 *
+	 * @param value The value to set as the current value.
+	 * @return A future completed with the new current value, or with the exception of the operation.
+	 */
+	public CompletableFuture<Double> setCurrentValue(Double value) {
+		return submit(c -> {
+			c.setCurrentValue(value);
+			return c.getCurrentValue();
+		});
+	}
+
+	/**
+	 * Gets the current value after all previously submitted operations.
+	 *
+	 * @return A future completed with the current value.
+	 */
+	public CompletableFuture<Double> getCurrentValue() {
+		return submit(CalculatorAdvanced::getCurrentValue);
+	}
+
+	/**
+	 * Queues an operation and schedules the session if it is idle.
+	 *
+	 * @param <T> The type of the result.
+	 * @param operation The operation.
+	 * @return A future completed with the result of the operation,
+	 * or exceptionally if the executor rejects the session.
+	 */
+	private <T> CompletableFuture<T> submit(Operation<T> operation) {
+		Task<T> task = new Task<>(operation);
+		mailbox.offer(task);
+		schedule();
+		return task.future;
+	}
+
+	/**
+	 * Hands the session to the executor if it holds work and is not already there.
+	 * If the executor rejects it, the waiting operations are failed and the session is left idle.
+	 */
+	private void schedule() {
+		while(!mailbox.isEmpty() && scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this::drain);
+				return;
+			} catch(RuntimeException e) {
+				fail(e);
+				scheduled.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Completes every waiting operation exceptionally.
+	 * Only called while the session is not draining.
+	 *
+	 * @param cause The exception of the operations.
+	 */
+	private void fail(Throwable cause) {
+		Task<?> task;
+		while((task = mailbox.poll()) != null) {
+			task.future.completeExceptionally(cause);
+		}
+	}
+
+	/**
+	 * Applies up to {@link #BATCH_SIZE} queued operations, then gives the thread back,
+	 * scheduling the session again if more work is waiting.
+	 */
+	private void drain() {
+		try {
+			for(int i = 0; i < BATCH_SIZE; i++) {
+				Task<?> task = mailbox.poll();
+				if(task == null) {
+					break;
+				}
+				task.run(calculator);
+			}
+		} finally {
+			scheduled.set(false);
+		}
+		schedule();
+	}
+}
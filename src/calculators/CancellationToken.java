@@ -0,0 +1,120 @@
+package calculators;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import exceptions.OperationCancelledException;
+
+/**
+ * A token that stops a long-running operation once it is cancelled or its deadline passes.
+ * Operations poll the token at loop boundaries, every {@link #CHECK_INTERVAL} iterations,
+ * so the check costs a volatile read and at most one clock read per interval.
+ * Once cancelled or expired, a token stays so.
+ * A token may be cancelled from any thread.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class CancellationToken {
+	/**
+	 * The number of loop iterations between two checks of a token.
+	 */
+	public static final int CHECK_INTERVAL = 64;
+
+	/**
+	 * A token that is never cancelled, used by the operations without a token.
+	 */
+	static final CancellationToken NONE = new CancellationToken();
+
+	/**
+	 * The clock in nanoseconds.
+	 */
+	private final LongSupplier clock;
+
+	/**
+	 * Whether the token has a deadline.
+	 */
+	private final boolean hasDeadline;
+
+	/**
+	 * The deadline in {@link System#nanoTime()} time, if the token has one.
+	 */
+	private final long deadline;
+
+	/**
+	 * Whether the token was cancelled.
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Constructs a token without a deadline, which stops operations only once it is cancelled.
+	 */
+	public CancellationToken() {
+		this.clock = System::nanoTime;
+		this.hasDeadline = false;
+		this.deadline = 0;
+	}
+
+	/**
+	 * Constructs a token that also stops operations once a timeout has elapsed from now.
+	 *
+	 * @param timeout The timeout.
+	 * @param unit The unit of the timeout.
+	 */
+	public CancellationToken(long timeout, TimeUnit unit) {
+		this(timeout, unit, System::nanoTime);
+	}
+
+	/**
+	 * Constructs a token that also stops operations once a timeout has elapsed on a clock.
+	 *
+	 * @param timeout The timeout.
+	 * @param unit The unit of the timeout.
+	 * @param clock The clock in nanoseconds.
+	 */
+	CancellationToken(long timeout, TimeUnit unit, LongSupplier clock) {
+		this.clock = clock;
+		this.hasDeadline = true;
+		this.deadline = clock.getAsLong() + unit.toNanos(timeout);
+	}
+
+	/**
+	 * Cancels the token.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Checks if the token was cancelled or its deadline has passed.
+	 *
+	 * @return True if operations should stop, false otherwise.
+	 */
+	public boolean isCancelled() {
+		return cancelled || isExpired();
+	}
+
+	/**
+	 * Checks if the deadline of the token has passed.
+	 *
+	 * @return True if the token has a deadline that has passed, false otherwise.
+	 */
+	public boolean isExpired() {
+		return hasDeadline && clock.getAsLong() - deadline >= 0;
+	}
+
+	/**
+	 * Stops the current operation if the token was cancelled or its deadline has passed.
+	 *
+	 * @throws OperationCancelledException If the token was cancelled or its deadline has passed.
+	 */
+	void throwIfCancelled() throws OperationCancelledException {
+		if(cancelled) {
+			throw new OperationCancelledException("Operation cancelled");
+		}
+		if(isExpired()) {
+			throw new OperationCancelledException("Deadline exceeded");
+		}
+	}
+}
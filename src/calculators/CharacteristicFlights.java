@@ -0,0 +1,223 @@
+package calculators;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+/**
+ * Coalesces concurrent identical characteristic checks, as in {@link CalculatorAdvanced#hasCharacteristic(char)},
+ * so that each distinct question is computed once however many callers ask it at the same moment.
+ * The first caller of a question starts its computation; callers that ask the same question,
+ * for the same characteristic and the same integer part, while it is in flight wait for the same result.
+ * No lock is held while computing or waiting: a question is registered with a single atomic
+ * {@link ConcurrentMap#putIfAbsent(Object, Object)} and unregistered before its result is published,
+ * whether the computation returns or throws, so no result outlives its computation and this is not a cache.
+ * Synchronous callers compute or wait on their own thread; asynchronous callers get a future,
+ * and a computation they start runs on the executor.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class CharacteristicFlights {
+	/**
+	 * A characteristic check.
+	 */
+	@FunctionalInterface
+	interface Check {
+		/**
+		 * Checks if the integer part of a value has a characteristic.
+		 *
+		 * @param value The value to check.
+		 * @param characteristic The characteristic to check.
+		 * @return True if the value has the characteristic, false otherwise.
+		 * @throws NumberNotInAreaException If the value is out of range.
+		 * @throws NotSupportedOperationException If the characteristic is not supported.
+		 */
+		boolean apply(double value, char characteristic) throws NumberNotInAreaException, NotSupportedOperationException;
+	}
+
+	/**
+	 * A question: a characteristic of the integer part of a value.
+	 */
+	private static final class Question {
+		/**
+		 * The bits of the integer part of the value.
+		 */
+		private final long bits;
+
+		/**
+		 * The characteristic.
+		 */
+		private final char characteristic;
+
+		/**
+		 * Constructs a question.
+		 *
+		 * @param value The value.
+		 * @param characteristic The characteristic.
+		 */
+		Question(double value, char characteristic) {
+			this.bits = Double.doubleToLongBits(value >= 1.0 ? Math.floor(value) : value);
+			this.characteristic = characteristic;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Question && ((Question) other).bits == bits
+					&& ((Question) other).characteristic == characteristic;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(bits) * 31 + characteristic;
+		}
+	}
+
+	/**
+	 * The questions being computed, with the future of their result.
+	 */
+	private final ConcurrentMap<Question, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * The executor of computations started by asynchronous callers.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The check that is coalesced.
+	 */
+	private final Check check;
+
+	/**
+	 * Constructs a coalescer whose asynchronous computations run on the common fork-join pool.
+	 */
+	public CharacteristicFlights() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs a coalescer.
+	 *
+	 * @param executor The executor of computations started by asynchronous callers.
+	 * @throws IllegalArgumentException If the executor is null.
+	 */
+	public CharacteristicFlights(Executor executor) {
+		this(executor, CalculatorAdvanced::hasCharacteristic);
+	}
+
+	/**
+	 * Constructs a coalescer of any check.
+	 *
+	 * @param executor The executor of computations started by asynchronous callers.
+	 * @param check The check that is coalesced.
+	 * @throws IllegalArgumentException If the executor is null.
+	 */
+	CharacteristicFlights(Executor executor, Check check) {
+		if(executor == null) {
+			throw new IllegalArgumentException("Executor cannot be null");
+		}
+		this.executor = executor;
+		this.check = check;
+	}
+
+	/**
+	 * Checks if the integer part of a value has a characteristic, computing it on this thread
+	 * unless the same check is already in flight, in which case its result is awaited.
+	 *
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 * @return True if the value has the characteristic, false otherwise.
+	 * @throws NumberNotInAreaException If the value is less than 1 or is not finite.
+	 * @throws NotSupportedOperationException If the characteristic is not supported.
+	 */
+	public boolean hasCharacteristic(double value, char characteristic)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		Question question = new Question(value, characteristic);
+		CompletableFuture<Boolean> flight = new CompletableFuture<>();
+		CompletableFuture<Boolean> leader = inFlight.putIfAbsent(question, flight);
+		if(leader == null) {
+			compute(question, flight, value, characteristic);
+			leader = flight;
+		}
+		try {
+			return leader.join();
+		} catch(CompletionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof NumberNotInAreaException) {
+				throw (NumberNotInAreaException) cause;
+			}
+			if(cause instanceof NotSupportedOperationException) {
+				throw (NotSupportedOperationException) cause;
+			}
+			if(cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if(cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Checks if the integer part of a value has a characteristic without blocking, joining
+	 * the same check if it is already in flight and otherwise computing it on the executor.
+	 * Every caller gets its own future, so cancelling or completing it does not affect the other callers.
+	 *
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 * @return A future completed with the result of the check, or with its exception.
+	 */
+	public CompletableFuture<Boolean> hasCharacteristicAsync(double value, char characteristic) {
+		Question question = new Question(value, characteristic);
+		CompletableFuture<Boolean> flight = new CompletableFuture<>();
+		CompletableFuture<Boolean> leader = inFlight.putIfAbsent(question, flight);
+		if(leader != null) {
+			return leader.copy();
+		}
+		try {
+			executor.execute(() -> compute(question, flight, value, characteristic));
+		} catch(RuntimeException e) {
+			inFlight.remove(question, flight);
+			flight.completeExceptionally(e);
+		}
+		return flight.copy();
+	}
+
+	/**
+	 * Gets the number of checks in flight.
+	 *
+	 * @return the number of distinct checks being computed
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	/**
+	 * Computes a registered check, unregisters it and completes its future.
+	 *
+	 * @param question The question.
+	 * @param flight The future of the question.
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 */
+	private void compute(Question question, CompletableFuture<Boolean> flight, double value, char characteristic) {
+		boolean result;
+		try {
+			result = check.apply(value, characteristic);
+		} catch(Throwable e) {
+			inFlight.remove(question, flight);
+			flight.completeExceptionally(e);
+			return;
+		}
+		inFlight.remove(question, flight);
+		flight.complete(result);
+	}
+}
@@ -0,0 +1,589 @@
+package calculators;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import exceptions.OperationCancelledException;
+
+/**
+ * The Characteristics class checks whether whole numbers are Armstrong numbers or perfect numbers
+ * for the full {@code long} range and for arbitrarily large {@link BigInteger} values.
+ * Both checks are structural and do not scan digits or divisors one by one:
+ * <ul>
+ * <li>There are only finitely many Armstrong numbers in base 10, because an n-digit number
+ * is at least {@code 10^(n-1)} while its digit power sum is at most {@code n * 9^n},
+ * which is smaller for every n above 60. The Armstrong numbers that fit in a long are looked up
+ * in a table; larger values are checked directly when they have at most 60 digits.</li>
+ * <li>By the Euclid-Euler theorem every even perfect number is {@code 2^(p-1) * (2^p - 1)}
+ * where {@code 2^p - 1} is a Mersenne prime, which is confirmed with the Lucas-Lehmer test.
+ * Odd numbers are reported as not perfect: no odd perfect number below {@code 10^1500} exists,
+ * and none is known at all.</li>
+ * </ul>
+ * Because both checks are structural, every Armstrong and perfect number in a range
+ * can be listed directly, without checking the numbers in the range one by one.
+ * For ints, {@link #classify(int)} reports several characteristics at once as a bitmask:
+ * one pass over the digits and one factorization, whose divisor sum answers the perfect,
+ * abundant, deficient and prime checks together.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class Characteristics {
+	/**
+	 * The bit of Armstrong numbers in a classification.
+	 */
+	public static final int ARMSTRONG = 1;
+
+	/**
+	 * The bit of perfect numbers, whose proper divisors add up to the number, in a classification.
+	 */
+	public static final int PERFECT = 1 << 1;
+
+	/**
+	 * The bit of abundant numbers, whose proper divisors add up to more than the number, in a classification.
+	 */
+	public static final int ABUNDANT = 1 << 2;
+
+	/**
+	 * The bit of deficient numbers, whose proper divisors add up to less than the number, in a classification.
+	 */
+	public static final int DEFICIENT = 1 << 3;
+
+	/**
+	 * The bit of prime numbers in a classification.
+	 */
+	public static final int PRIME = 1 << 4;
+
+	/**
+	 * The bit of numbers that read the same backwards in base 10 in a classification.
+	 */
+	public static final int PALINDROME = 1 << 5;
+
+	/**
+	 * All 88 positive Armstrong numbers in base 10, in ascending order.
+	 * The list is complete: an exhaustive search of every digit count up to 60 finds no others,
+	 * and none has more than 39 digits.
+	 */
+	private static final BigInteger[] ALL_ARMSTRONG_NUMBERS = Stream.of(
+			"1", "2", "3", "4", "5", "6", "7", "8", "9",
+			"153", "370", "371", "407", "1634", "8208", "9474",
+			"54748", "92727", "93084", "548834", "1741725", "4210818", "9800817", "9926315",
+			"24678050", "24678051", "88593477", "146511208", "472335975", "534494836", "912985153",
+			"4679307774", "32164049650", "32164049651", "40028394225", "42678290603", "44708635679",
+			"49388550606", "82693916578", "94204591914", "28116440335967",
+			"4338281769391370", "4338281769391371", "21897142587612075", "35641594208964132",
+			"35875699062250035", "1517841543307505039", "3289582984443187032",
+			"4498128791164624869", "4929273885928088826", "63105425988599693916",
+			"128468643043731391252", "449177399146038697307",
+			"21887696841122916288858", "27879694893054074471405", "27907865009977052567814",
+			"28361281321319229463398", "35452590104031691935943",
+			"174088005938065293023722", "188451485447897896036875", "239313664430041569350093",
+			"1550475334214501539088894", "1553242162893771850669378", "3706907995955475988644380",
+			"3706907995955475988644381", "4422095118095899619457938",
+			"121204998563613372405438066", "121270696006801314328439376", "128851796696487777842012787",
+			"174650464499531377631639254", "177265453171792792366489765",
+			"14607640612971980372614873089", "19008174136254279995012734740",
+			"19008174136254279995012734741", "23866716435523975980390369295",
+			"1145037275765491025924292050346", "1927890457142960697580636236639",
+			"2309092682616190307509695338915", "17333509997782249308725103962772",
+			"186709961001538790100634132976990", "186709961001538790100634132976991",
+			"1122763285329372541592822900204593", "12639369517103790328947807201478392",
+			"12679937780272278566303885594196922", "1219167219625434121569735803609966019",
+			"12815792078366059955099770545296129367", "115132219018763992565095597973971522400",
+			"115132219018763992565095597973971522401"
+	).map(BigInteger::new).toArray(BigInteger[]::new);
+
+	/**
+	 * The positive Armstrong numbers in base 10 that fit in a long, in ascending order.
+	 */
+	private static final long[] ARMSTRONG_NUMBERS = Stream.of(ALL_ARMSTRONG_NUMBERS)
+			.filter(number -> number.bitLength() < Long.SIZE)
+			.mapToLong(BigInteger::longValue)
+			.toArray();
+
+	/**
+	 * The largest number of digits an Armstrong number in base 10 can have.
+	 */
+	private static final int MAX_ARMSTRONG_DIGITS = 60;
+
+	/**
+	 * The largest bit length of a number with at most {@link #MAX_ARMSTRONG_DIGITS} digits,
+	 * since {@code 10^60 < 2^200}.
+	 */
+	static final int MAX_ARMSTRONG_BITS = 200;
+
+	/**
+	 * The largest Mersenne exponent whose perfect number fits in a long.
+	 */
+	private static final int MAX_LONG_EXPONENT = 31;
+
+	/**
+	 * The perfect numbers that fit in a long, in ascending order.
+	 */
+	private static final long[] PERFECT_NUMBERS = perfectNumbers();
+
+	/**
+	 * The exponents of the first 48 Mersenne primes in ascending order.
+	 * No Mersenne prime is missing between them, so the perfect numbers they give
+	 * are all even perfect numbers below {@code 2^115770321}.
+	 */
+	private static final int[] MERSENNE_EXPONENTS = {
+			2, 3, 5, 7, 13, 17, 19, 31, 61, 89, 107, 127, 521, 607, 1279, 2203, 2281, 3217, 4253, 4423,
+			9689, 9941, 11213, 19937, 21701, 23209, 44497, 86243, 110503, 132049, 216091, 756839, 859433,
+			1257787, 1398269, 2976221, 3021377, 6972593, 13466917, 20996011, 24036583, 25964951,
+			30402457, 32582657, 37156667, 42643801, 43112609, 57885161
+	};
+
+	/**
+	 * The primes up to the square root of the largest int, used to factor ints.
+	 */
+	private static final int[] SMALL_PRIMES = primesUpTo(46341);
+
+	/**
+	 * The number of trial divisions between two checks of a cancellation token.
+	 * A trial division is far cheaper than a clock read, so the token is checked less often than {@link CancellationToken#CHECK_INTERVAL}.
+	 */
+	private static final int DIVISION_CHECK_INTERVAL = 1024;
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private Characteristics() {
+	}
+
+	/**
+	 * Determines if a number is an Armstrong number, that is a positive number equal to
+	 * the sum of its digits each raised to the power of the number of digits.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is an Armstrong number, false otherwise.
+	 */
+	public static boolean isArmstrong(long number) {
+		return number > 0 && Arrays.binarySearch(ARMSTRONG_NUMBERS, number) >= 0;
+	}
+
+	/**
+	 * Determines if a number is an Armstrong number, that is a positive number equal to
+	 * the sum of its digits each raised to the power of the number of digits.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is an Armstrong number, false otherwise.
+	 */
+	public static boolean isArmstrong(BigInteger number) {
+		return isArmstrong(number, CancellationToken.NONE);
+	}
+
+	/**
+	 * Determines if a number is an Armstrong number, giving up with false once the token is cancelled.
+	 *
+	 * @param number The number to check.
+	 * @param token The token that stops the check.
+	 * @return True if the number is an Armstrong number, false otherwise or if the check was stopped.
+	 */
+	static boolean isArmstrong(BigInteger number, CancellationToken token) {
+		if(number.bitLength() < Long.SIZE) {
+			return isArmstrong(number.longValue());
+		}
+		if(number.signum() <= 0 || number.bitLength() > MAX_ARMSTRONG_BITS) {
+			return false;
+		}
+		String digits = number.toString();
+		int length = digits.length();
+		if(length > MAX_ARMSTRONG_DIGITS) {
+			return false;
+		}
+		BigInteger[] powers = new BigInteger[10];
+		for(int digit = 0; digit < powers.length; digit++) {
+			powers[digit] = BigInteger.valueOf(digit).pow(length);
+		}
+		if(token.isCancelled()) {
+			return false;
+		}
+		BigInteger sum = BigInteger.ZERO;
+		for(int i = 0; i < length; i++) {
+			sum = sum.add(powers[digits.charAt(i) - '0']);
+		}
+		return sum.equals(number);
+	}
+
+	/**
+	 * Determines if a number is a perfect number, that is a positive number equal to
+	 * the sum of its proper divisors.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is a perfect number, false otherwise.
+	 */
+	public static boolean isPerfect(long number) {
+		if(number < 2 || (number & 1) != 0) {
+			return false;
+		}
+		int exponent = Long.numberOfTrailingZeros(number) + 1;
+		if(exponent > MAX_LONG_EXPONENT) {
+			return false;
+		}
+		long mersenne = (1L << exponent) - 1;
+		return number >>> (exponent - 1) == mersenne && isMersennePrime(exponent);
+	}
+
+	/**
+	 * Determines if a number is a perfect number, that is a positive number equal to
+	 * the sum of its proper divisors.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is a perfect number, false otherwise.
+	 */
+	public static boolean isPerfect(BigInteger number) {
+		return isPerfectUnlessCancelled(number, CancellationToken.NONE);
+	}
+
+	/**
+	 * Determines if a number is a perfect number, stopping the check once the token is cancelled
+	 * or its deadline has passed. The Lucas-Lehmer test of a candidate of the perfect shape takes
+	 * as many squarings as its Mersenne exponent and checks the token every
+	 * {@link CancellationToken#CHECK_INTERVAL} of them, so even a check of a number with millions of bits
+	 * stops at most that many squarings after the cancellation.
+	 *
+	 * @param number The number to check.
+	 * @param token The token that stops the check.
+	 * @return True if the number is a perfect number, false otherwise.
+	 * @throws OperationCancelledException If the token was cancelled or its deadline has passed.
+	 */
+	public static boolean isPerfect(BigInteger number, CancellationToken token) throws OperationCancelledException {
+		token.throwIfCancelled();
+		boolean result = isPerfectUnlessCancelled(number, token);
+		token.throwIfCancelled();
+		return result;
+	}
+
+	/**
+	 * Determines if a number is a perfect number, giving up with false once the token is cancelled.
+	 *
+	 * @param number The number to check.
+	 * @param token The token that stops the check.
+	 * @return True if the number is a perfect number, false otherwise or if the check was stopped.
+	 */
+	static boolean isPerfectUnlessCancelled(BigInteger number, CancellationToken token) {
+		if(number.bitLength() < Long.SIZE) {
+			return isPerfect(number.longValue());
+		}
+		if(number.signum() <= 0 || number.testBit(0)) {
+			return false;
+		}
+		int exponent = number.getLowestSetBit() + 1;
+		BigInteger mersenne = number.shiftRight(exponent - 1);
+		return mersenne.bitLength() == exponent
+				&& mersenne.bitCount() == exponent
+				&& isMersennePrime(exponent, token);
+	}
+
+	/**
+	 * Classifies a number by all characteristics at once.
+	 * Positive numbers are either perfect, abundant or deficient; 1 is deficient and not prime.
+	 *
+	 * @param number The number to classify.
+	 * @return The bitmask of the characteristics of the number, or 0 if the number is not positive.
+	 */
+	public static int classify(int number) {
+		return classify(number, CancellationToken.NONE);
+	}
+
+	/**
+	 * Classifies a number by all characteristics at once, giving up once the token is cancelled.
+	 *
+	 * @param number The number to classify.
+	 * @param token The token that stops the classification.
+	 * @return The bitmask of the characteristics of the number, or 0 if it is not positive or the classification was stopped.
+	 */
+	static int classify(int number, CancellationToken token) {
+		if(number < 1) {
+			return 0;
+		}
+		int mask = isArmstrong(number) ? ARMSTRONG : 0;
+		long reversed = 0;
+		for(int rest = number; rest > 0; rest /= 10) {
+			reversed = reversed * 10 + rest % 10;
+		}
+		if(reversed == number) {
+			mask |= PALINDROME;
+		}
+		long divisorSum = divisorSum(number, token);
+		if(divisorSum < 0) {
+			return 0;
+		}
+		if(divisorSum == number + 1L) {
+			mask |= PRIME;
+		}
+		long twice = 2L * number;
+		if(divisorSum == twice) {
+			mask |= PERFECT;
+		} else if(divisorSum > twice) {
+			mask |= ABUNDANT;
+		} else {
+			mask |= DEFICIENT;
+		}
+		return mask;
+	}
+
+	/**
+	 * Classifies every number of an array in one traversal.
+	 *
+	 * @param numbers The numbers to classify.
+	 * @param masks The array that receives the bitmask of each number, as in {@link #classify(int)}.
+	 * @throws IllegalArgumentException If the arrays have different lengths.
+	 */
+	public static void classify(int[] numbers, int[] masks) {
+		if(numbers.length != masks.length) {
+			throw new IllegalArgumentException("Arrays must have the same length");
+		}
+		for(int i = 0; i < numbers.length; i++) {
+			masks[i] = classify(numbers[i]);
+		}
+	}
+
+	/**
+	 * Lists the Armstrong numbers in a range.
+	 *
+	 * @param from The lower bound of the range, inclusive.
+	 * @param to The upper bound of the range, inclusive.
+	 * @return The Armstrong numbers in the range in ascending order, or an empty array if the range is empty.
+	 */
+	public static long[] armstrongNumbersBetween(long from, long to) {
+		return between(ARMSTRONG_NUMBERS, from, to);
+	}
+
+	/**
+	 * Lists the perfect numbers in a range.
+	 *
+	 * @param from The lower bound of the range, inclusive.
+	 * @param to The upper bound of the range, inclusive.
+	 * @return The perfect numbers in the range in ascending order, or an empty array if the range is empty.
+	 */
+	public static long[] perfectNumbersBetween(long from, long to) {
+		return between(PERFECT_NUMBERS, from, to);
+	}
+
+	/**
+	 * Lists the Armstrong numbers in a range of arbitrarily large numbers.
+	 *
+	 * @param from The lower bound of the range, inclusive.
+	 * @param to The upper bound of the range, inclusive.
+	 * @return The Armstrong numbers in the range in ascending order, or an empty array if the range is empty.
+	 */
+	public static BigInteger[] armstrongNumbersBetween(BigInteger from, BigInteger to) {
+		if(from.compareTo(to) > 0) {
+			return new BigInteger[0];
+		}
+		int start = Arrays.binarySearch(ALL_ARMSTRONG_NUMBERS, from);
+		if(start < 0) {
+			start = -start - 1;
+		}
+		int end = Arrays.binarySearch(ALL_ARMSTRONG_NUMBERS, to);
+		end = end < 0 ? -end - 1 : end + 1;
+		return Arrays.copyOfRange(ALL_ARMSTRONG_NUMBERS, start, Math.max(start, end));
+	}
+
+	/**
+	 * Lists the perfect numbers in a range of arbitrarily large numbers.
+	 * Only the perfect numbers whose bit length lies between those of the bounds are built,
+	 * each as {@code 2^(p-1) * (2^p - 1)} from a Mersenne exponent p.
+	 *
+	 * @param from The lower bound of the range, inclusive.
+	 * @param to The upper bound of the range, inclusive.
+	 * @return The perfect numbers in the range in ascending order, or an empty array if the range is empty.
+	 * @throws IllegalArgumentException If the upper bound is at least {@code 2^115770321},
+	 * where the perfect numbers are not all known.
+	 */
+	public static BigInteger[] perfectNumbersBetween(BigInteger from, BigInteger to) {
+		if(from.compareTo(to) > 0 || to.signum() <= 0) {
+			return new BigInteger[0];
+		}
+		if(to.bitLength() > 2 * MERSENNE_EXPONENTS[MERSENNE_EXPONENTS.length - 1] - 1) {
+			throw new IllegalArgumentException("Range exceeds the known perfect numbers");
+		}
+		BigInteger[] numbers = new BigInteger[MERSENNE_EXPONENTS.length];
+		int count = 0;
+		for(int exponent : MERSENNE_EXPONENTS) {
+			int bitLength = 2 * exponent - 1;
+			if(bitLength > to.bitLength()) {
+				break;
+			}
+			if(from.signum() > 0 && bitLength < from.bitLength()) {
+				continue;
+			}
+			BigInteger perfect = BigInteger.ONE.shiftLeft(exponent).subtract(BigInteger.ONE).shiftLeft(exponent - 1);
+			if(perfect.compareTo(from) >= 0 && perfect.compareTo(to) <= 0) {
+				numbers[count++] = perfect;
+			}
+		}
+		return Arrays.copyOf(numbers, count);
+	}
+
+	/**
+	 * Selects the elements of a sorted table that lie in a range.
+	 *
+	 * @param table The sorted table.
+	 * @param from The lower bound of the range, inclusive.
+	 * @param to The upper bound of the range, inclusive.
+	 * @return The selected elements in ascending order.
+	 */
+	private static long[] between(long[] table, long from, long to) {
+		if(from > to) {
+			return new long[0];
+		}
+		int start = Arrays.binarySearch(table, from);
+		if(start < 0) {
+			start = -start - 1;
+		}
+		int end = Arrays.binarySearch(table, to);
+		end = end < 0 ? -end - 1 : end + 1;
+		return Arrays.copyOfRange(table, start, Math.max(start, end));
+	}
+
+	/**
+	 * Computes the sum of all divisors of a positive int, including the number itself,
+	 * from its factorization: the sum is the product of {@code 1 + p + ... + p^e}
+	 * over the prime powers {@code p^e} of the factorization.
+	 *
+	 * @param number The number.
+	 * @param token The token that stops the factorization.
+	 * @return The sum of the divisors, or -1 if the factorization was stopped.
+	 */
+	private static long divisorSum(int number, CancellationToken token) {
+		long sum = 1;
+		int rest = number;
+		for(int i = 0; i < SMALL_PRIMES.length; i++) {
+			int prime = SMALL_PRIMES[i];
+			if(prime * prime > rest) {
+				break;
+			}
+			if((i & (DIVISION_CHECK_INTERVAL - 1)) == 0 && token.isCancelled()) {
+				return -1;
+			}
+			if(rest % prime == 0) {
+				long term = 1;
+				long power = 1;
+				do {
+					rest /= prime;
+					power *= prime;
+					term += power;
+				} while(rest % prime == 0);
+				sum *= term;
+			}
+		}
+		if(rest > 1) {
+			sum *= rest + 1L;
+		}
+		return sum;
+	}
+
+	/**
+	 * Lists the primes up to a bound with the sieve of Eratosthenes.
+	 *
+	 * @param bound The largest number to consider.
+	 * @return The primes in ascending order.
+	 */
+	private static int[] primesUpTo(int bound) {
+		boolean[] composite = new boolean[bound + 1];
+		int[] primes = new int[bound];
+		int count = 0;
+		for(int i = 2; i <= bound; i++) {
+			if(!composite[i]) {
+				primes[count++] = i;
+				for(long j = (long) i * i; j <= bound; j += i) {
+					composite[(int) j] = true;
+				}
+			}
+		}
+		return Arrays.copyOf(primes, count);
+	}
+
+	/**
+	 * Builds the table of perfect numbers that fit in a long from the Mersenne primes.
+	 *
+	 * @return The perfect numbers in ascending order.
+	 */
+	private static long[] perfectNumbers() {
+		long[] numbers = new long[MAX_LONG_EXPONENT];
+		int count = 0;
+		for(int exponent = 2; exponent <= MAX_LONG_EXPONENT; exponent++) {
+			if(isMersennePrime(exponent)) {
+				numbers[count++] = ((1L << exponent) - 1) << (exponent - 1);
+			}
+		}
+		return Arrays.copyOf(numbers, count);
+	}
+
+	/**
+	 * Determines if {@code 2^exponent - 1} is prime with the Lucas-Lehmer test.
+	 *
+	 * @param exponent The exponent of the Mersenne number.
+	 * @return True if the Mersenne number is prime, false otherwise.
+	 */
+	private static boolean isMersennePrime(int exponent) {
+		return isMersennePrime(exponent, CancellationToken.NONE);
+	}
+
+	/**
+	 * Determines if {@code 2^exponent - 1} is prime with the Lucas-Lehmer test,
+	 * giving up with false once the token is cancelled.
+	 *
+	 * @param exponent The exponent of the Mersenne number.
+	 * @param token The token that stops the test.
+	 * @return True if the Mersenne number is prime, false otherwise or if the test was stopped.
+	 */
+	private static boolean isMersennePrime(int exponent, CancellationToken token) {
+		if(exponent == 2) {
+			return true;
+		}
+		if(!isPrime(exponent)) {
+			return false;
+		}
+		if(exponent <= MAX_LONG_EXPONENT) {
+			long mersenne = (1L << exponent) - 1;
+			long s = 4;
+			for(int i = 0; i < exponent - 2; i++) {
+				s = (s * s - 2) % mersenne;
+			}
+			return s == 0;
+		}
+		BigInteger mersenne = BigInteger.ONE.shiftLeft(exponent).subtract(BigInteger.ONE);
+		BigInteger two = BigInteger.TWO;
+		BigInteger s = BigInteger.valueOf(4);
+		for(int i = 0; i < exponent - 2; i++) {
+			if((i & (CancellationToken.CHECK_INTERVAL - 1)) == 0 && token.isCancelled()) {
+				return false;
+			}
+			s = s.multiply(s).subtract(two);
+			if(s.signum() < 0) {
+				s = s.add(mersenne);
+			}
+			while(s.bitLength() > exponent) {
+				s = s.and(mersenne).add(s.shiftRight(exponent));
+			}
+			if(s.equals(mersenne)) {
+				s = BigInteger.ZERO;
+			}
+		}
+		return s.signum() == 0;
+	}
+
+	/**
+	 * Determines if a small number is prime by trial division.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is prime, false otherwise.
+	 */
+	private static boolean isPrime(int number) {
+		if(number < 2) {
+			return false;
+		}
+		for(int i = 2; (long) i * i <= number; i++) {
+			if(number % i == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
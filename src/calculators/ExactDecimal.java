@@ -0,0 +1,283 @@
+package calculators;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * An exact decimal value used by the precision mode of the {@link Calculator}.
+ * The value is held as a scaled {@code long} (unscaled value and number of decimal places)
+ * for as long as the operations allow it, which keeps most calculations free of allocation.
+ * When an operation would overflow the {@code long} or needs more decimal places than it can hold,
+ * the value falls back to a {@link BigDecimal} rounded with the configured {@link MathContext},
+ * and returns to the scaled {@code long} form as soon as the result fits again.
+ * Operands are taken as the shortest decimal number that converts to the given double.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class ExactDecimal {
+	/**
+	 * The largest number of decimal places kept in the scaled long form.
+	 */
+	private static final int MAX_SCALE = 18;
+
+	/**
+	 * The largest magnitude of a long that converts to a double without rounding.
+	 */
+	private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+	/**
+	 * Powers of ten that fit in a long.
+	 */
+	private static final long[] LONG_POWERS = new long[MAX_SCALE + 1];
+
+	/**
+	 * Powers of ten that are exactly representable as doubles.
+	 */
+	private static final double[] DOUBLE_POWERS = new double[23];
+
+	static {
+		LONG_POWERS[0] = 1L;
+		for(int i = 1; i < LONG_POWERS.length; i++) {
+			LONG_POWERS[i] = LONG_POWERS[i - 1] * 10;
+		}
+		DOUBLE_POWERS[0] = 1.0;
+		for(int i = 1; i < DOUBLE_POWERS.length; i++) {
+			DOUBLE_POWERS[i] = DOUBLE_POWERS[i - 1] * 10;
+		}
+	}
+
+	/**
+	 * The context used to round results computed with BigDecimal.
+	 */
+	private final MathContext mathContext;
+
+	/**
+	 * The unscaled value of the scaled long form.
+	 */
+	private long unscaled;
+
+	/**
+	 * The number of decimal places of the scaled long form.
+	 */
+	private int scale;
+
+	/**
+	 * The value in BigDecimal form, or null while the scaled long form is used.
+	 */
+	private BigDecimal big;
+
+	/**
+	 * Whether the value holds a finite number.
+	 */
+	private boolean defined;
+
+	/**
+	 * The unscaled value of the last decomposed operand.
+	 */
+	private long operandUnscaled;
+
+	/**
+	 * The number of decimal places of the last decomposed operand.
+	 */
+	private int operandScale;
+
+	/**
+	 * Constructs a new exact value.
+	 *
+	 * @param mathContext The context used to round results computed with BigDecimal.
+	 * @param value The initial value.
+	 */
+	ExactDecimal(MathContext mathContext, double value) {
+		this.mathContext = mathContext;
+		set(value);
+	}
+
+	/**
+	 * Gets the context used to round results computed with BigDecimal.
+	 *
+	 * @return the math context
+	 */
+	MathContext getMathContext() {
+		return mathContext;
+	}
+
+	/**
+	 * Checks if the value holds a finite number.
+	 * Setting an infinite or NaN value leaves the exact value undefined.
+	 *
+	 * @return True if the value is defined, false otherwise.
+	 */
+	boolean isDefined() {
+		return defined;
+	}
+
+	/**
+	 * Replaces the value with the shortest decimal number that converts to the given double.
+	 *
+	 * @param value The new value.
+	 */
+	void set(double value) {
+		defined = Double.isFinite(value);
+		if(!defined) {
+			big = null;
+			return;
+		}
+		if(decompose(value)) {
+			unscaled = operandUnscaled;
+			scale = operandScale;
+			big = null;
+		} else {
+			big = BigDecimal.valueOf(value);
+		}
+	}
+
+	/**
+	 * Applies an arithmetic operation to the value.
+	 * The operator must be one of '+', '-', '*' or '/', and a divisor must not be zero.
+	 *
+	 * @param operand The value to operate with.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @return The new value converted to a double.
+	 */
+	double apply(double operand, char operator) {
+		if(big == null && decompose(operand) && applyFast(operator)) {
+			return doubleValue();
+		}
+		BigDecimal other = BigDecimal.valueOf(operand);
+		BigDecimal current = toBigDecimal();
+		switch(operator) {
+		case '+':
+			big = current.add(other, mathContext);
+			break;
+		case '-':
+			big = current.subtract(other, mathContext);
+			break;
+		case '*':
+			big = current.multiply(other, mathContext);
+			break;
+		default:
+			big = current.divide(other, mathContext);
+			break;
+		}
+		demote();
+		return doubleValue();
+	}
+
+	/**
+	 * Gets the value as a BigDecimal.
+	 *
+	 * @return The exact value.
+	 */
+	BigDecimal toBigDecimal() {
+		return big != null ? big : BigDecimal.valueOf(unscaled, scale);
+	}
+
+	/**
+	 * Applies an operation in the scaled long form using the last decomposed operand.
+	 * The value is left unchanged when the result does not fit.
+	 *
+	 * @param operator The operator representing the arithmetic operation.
+	 * @return True if the result was computed, false otherwise.
+	 */
+	private boolean applyFast(char operator) {
+		try {
+			int target = Math.max(scale, operandScale);
+			long a = Math.multiplyExact(unscaled, LONG_POWERS[target - scale]);
+			long b = Math.multiplyExact(operandUnscaled, LONG_POWERS[target - operandScale]);
+			switch(operator) {
+			case '+':
+				return store(Math.addExact(a, b), target);
+			case '-':
+				return store(Math.subtractExact(a, b), target);
+			case '*':
+				if(scale + operandScale > MAX_SCALE) {
+					return false;
+				}
+				return store(Math.multiplyExact(unscaled, operandUnscaled), scale + operandScale);
+			default:
+				for(int places = 0; places <= MAX_SCALE; places++) {
+					long dividend = Math.multiplyExact(a, LONG_POWERS[places]);
+					if(dividend % b == 0) {
+						return store(dividend / b, places);
+					}
+				}
+				return false;
+			}
+		} catch(ArithmeticException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Stores a result in the scaled long form, removing trailing zeros.
+	 *
+	 * @param value The unscaled result.
+	 * @param places The number of decimal places of the result.
+	 * @return Always true.
+	 */
+	private boolean store(long value, int places) {
+		while(places > 0 && value % 10 == 0) {
+			value /= 10;
+			places--;
+		}
+		unscaled = value;
+		scale = places;
+		return true;
+	}
+
+	/**
+	 * Moves a BigDecimal result back to the scaled long form when it fits.
+	 */
+	private void demote() {
+		BigDecimal stripped = big.stripTrailingZeros();
+		int places = stripped.scale();
+		if(places < 0 && -places <= MAX_SCALE && stripped.precision() - places <= MAX_SCALE) {
+			stripped = stripped.setScale(0);
+			places = 0;
+		}
+		if(places >= 0 && places <= MAX_SCALE && stripped.unscaledValue().bitLength() < Long.SIZE) {
+			unscaled = stripped.unscaledValue().longValue();
+			scale = places;
+			big = null;
+		}
+	}
+
+	/**
+	 * Converts the value to the nearest double.
+	 *
+	 * @return The value as a double.
+	 */
+	private double doubleValue() {
+		if(big == null && Math.abs(unscaled) < MAX_EXACT_DOUBLE) {
+			return unscaled / DOUBLE_POWERS[scale];
+		}
+		return toBigDecimal().doubleValue();
+	}
+
+	/**
+	 * Finds the shortest decimal number with at most {@link #MAX_SCALE} places
+	 * that converts to the given double, and stores it as the last decomposed operand.
+	 * Both the candidate and the power of ten are exact doubles, so the division
+	 * is correctly rounded and tells whether the candidate converts back to the value.
+	 *
+	 * @param value The finite double to decompose.
+	 * @return True if such a number fits in the scaled long form, false otherwise.
+	 */
+	private boolean decompose(double value) {
+		for(int places = 0; places <= MAX_SCALE; places++) {
+			double scaled = value * DOUBLE_POWERS[places];
+			if(Math.abs(scaled) >= MAX_EXACT_DOUBLE) {
+				return false;
+			}
+			long candidate = (long) Math.rint(scaled);
+			if(candidate / DOUBLE_POWERS[places] == value) {
+				operandUnscaled = candidate;
+				operandScale = places;
+				return true;
+			}
+		}
+		return false;
+	}
+}
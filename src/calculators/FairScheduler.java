@@ -0,0 +1,505 @@
+package calculators;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A scheduler in front of {@link CalculatorAdvanced} for a worker pool shared by several tenants.
+ * Every request is a stateless operation on a given value. Its cost is estimated from the operation
+ * and the value, and it is queued in one of two lanes:
+ * <ul>
+ * <li>the cheap lane for arithmetic, powers, factorials, characteristic checks of values
+ * that fit in a long, which are table lookups, and checks of larger values that are rejected early,</li>
+ * <li>the expensive lane for work that grows with the value: Armstrong checks of values of up to 60 digits
+ * beyond long, perfect checks of values beyond long that need a Lucas-Lehmer test,
+ * and the factorization of {@link #characteristics(String, double)}.</li>
+ * </ul>
+ * Each lane runs at most a fixed number of operations at once, so expensive work never holds
+ * the threads reserved for cheap work. Within a lane, tenants get a share of the operations
+ * proportional to their weight by weighted fair queueing: the tenant whose queued work has
+ * the smallest virtual start time, which grows by cost divided by weight, runs next.
+ * Admission control rejects a request when the queued and running cost of its tenant
+ * would exceed the cost budget of the tenant; the future then fails with a
+ * {@link RejectedExecutionException}.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class FairScheduler {
+	/**
+	 * The estimated cost from which an operation is sent to the expensive lane.
+	 */
+	public static final long EXPENSIVE_COST = 64;
+
+	/**
+	 * The estimated cost of a characteristic check of a value beyond long that is rejected
+	 * without doing the check, which mostly converts the value to a {@link java.math.BigInteger}.
+	 */
+	private static final long REJECTED_COST = 4;
+
+	/**
+	 * The base 10 logarithm of 2, the number of decimal digits per bit.
+	 */
+	private static final double LOG10_2 = Math.log10(2);
+
+	/**
+	 * The index of the cheap lane.
+	 */
+	private static final int CHEAP = 0;
+
+	/**
+	 * The index of the expensive lane.
+	 */
+	private static final int EXPENSIVE = 1;
+
+	/**
+	 * A tenant with its weight, budget and queues.
+	 */
+	private static final class Tenant {
+		/**
+		 * The weight of the tenant.
+		 */
+		final int weight;
+
+		/**
+		 * The largest queued and running cost of the tenant.
+		 */
+		final long costBudget;
+
+		/**
+		 * The queued and running cost of the tenant.
+		 */
+		long outstandingCost;
+
+		/**
+		 * The queued operations of the tenant in each lane.
+		 */
+		final Queue<Task<?>>[] queues;
+
+		/**
+		 * The virtual start time of the next operation of the tenant in each lane.
+		 */
+		final double[] virtualTimes = new double[2];
+
+		/**
+		 * Constructs a tenant without queued work.
+		 *
+		 * @param weight The weight of the tenant.
+		 * @param costBudget The largest queued and running cost of the tenant.
+		 */
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		Tenant(int weight, long costBudget) {
+			this.weight = weight;
+			this.costBudget = costBudget;
+			this.queues = new Queue[] {new ArrayDeque<Task<?>>(), new ArrayDeque<Task<?>>()};
+		}
+	}
+
+	/**
+	 * A queued operation.
+	 *
+	 * @param <T> The type of the result.
+	 */
+	private static final class Task<T> {
+		/**
+		 * The tenant of the operation.
+		 */
+		final Tenant tenant;
+
+		/**
+		 * The estimated cost of the operation.
+		 */
+		final long cost;
+
+		/**
+		 * The operation.
+		 */
+		final Callable<T> operation;
+
+		/**
+		 * The future of the operation.
+		 */
+		final CompletableFuture<T> future = new CompletableFuture<>();
+
+		/**
+		 * Constructs a task.
+		 *
+		 * @param tenant The tenant of the operation.
+		 * @param cost The estimated cost of the operation.
+		 * @param operation The operation.
+		 */
+		Task(Tenant tenant, long cost, Callable<T> operation) {
+			this.tenant = tenant;
+			this.cost = cost;
+			this.operation = operation;
+		}
+	}
+
+	/**
+	 * The executor that runs the operations of both lanes.
+	 */
+	private final Executor executor;
+
+	/**
+	 * The largest number of operations running at once in each lane.
+	 */
+	private final int[] parallelism;
+
+	/**
+	 * The number of operations running in each lane.
+	 */
+	private final int[] running = new int[2];
+
+	/**
+	 * The virtual time of each lane, which is the virtual start time of the last operation started.
+	 */
+	private final double[] laneTimes = new double[2];
+
+	/**
+	 * The tenants by name.
+	 */
+	private final Map<String, Tenant> tenants = new LinkedHashMap<>();
+
+	/**
+	 * Constructs a scheduler. For the lanes to be isolated, the executor must be able to run
+	 * the operations of both lanes at once, that is have at least
+	 * {@code cheapParallelism + expensiveParallelism} threads.
+	 *
+	 * @param executor The executor that runs the operations.
+	 * @param cheapParallelism The largest number of cheap operations running at once.
+	 * @param expensiveParallelism The largest number of expensive operations running at once.
+	 * @throws IllegalArgumentException If the executor is null or a parallelism is not positive.
+	 */
+	public FairScheduler(Executor executor, int cheapParallelism, int expensiveParallelism) {
+		if(executor == null) {
+			throw new IllegalArgumentException("Executor cannot be null");
+		}
+		if(cheapParallelism <= 0 || expensiveParallelism <= 0) {
+			throw new IllegalArgumentException("Parallelism must be positive");
+		}
+		this.executor = executor;
+		this.parallelism = new int[] {cheapParallelism, expensiveParallelism};
+	}
+
+	/**
+	 * Adds a tenant.
+	 *
+	 * @param name The name of the tenant.
+	 * @param weight The share of the tenant relative to other tenants.
+	 * @param costBudget The largest queued and running cost of the tenant.
+	 * @throws IllegalArgumentException If the weight or budget is not positive or the tenant already exists.
+	 */
+	public synchronized void addTenant(String name, int weight, long costBudget) {
+		if(weight <= 0) {
+			throw new IllegalArgumentException("Weight must be positive");
+		}
+		if(costBudget <= 0) {
+			throw new IllegalArgumentException("Cost budget must be positive");
+		}
+		if(tenants.containsKey(name)) {
+			throw new IllegalArgumentException("Tenant already exists");
+		}
+		tenants.put(name, new Tenant(weight, costBudget));
+	}
+
+	/**
+	 * Gets the queued and running cost of a tenant.
+	 *
+	 * @param name The name of the tenant.
+	 * @return The outstanding cost.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	public synchronized long getOutstandingCost(String name) {
+		return tenant(name).outstandingCost;
+	}
+
+	/**
+	 * Schedules {@link Calculator#calculate(Double, char)} on a start value.
+	 *
+	 * @param tenant The name of the tenant.
+	 * @param start The current value to start from.
+	 * @param value The value to operate with.
+	 * @param operator The operator representing the arithmetic operation.
+	 * @return A future completed with the new current value, or with the exception of the calculation or admission.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	public CompletableFuture<Double> calculate(String tenant, double start, Double value, char operator) {
+		return submit(tenant, calculateCost(), () -> {
+			CalculatorAdvanced calculator = calculator(start);
+			calculator.calculate(value, operator);
+			return calculator.getCurrentValue();
+		});
+	}
+
+	/**
+	 * Schedules {@link CalculatorAdvanced#calculateAdvanced(char)} on a start value.
+	 *
+	 * @param tenant The name of the tenant.
+	 * @param start The current value to start from.
+	 * @param action The operation to perform.
+	 * @return A future completed with the new current value, or with the exception of the calculation or admission.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	public CompletableFuture<Double> calculateAdvanced(String tenant, double start, char action) {
+		return submit(tenant, calculateAdvancedCost(action), () -> {
+			CalculatorAdvanced calculator = calculator(start);
+			calculator.calculateAdvanced(action);
+			return calculator.getCurrentValue();
+		});
+	}
+
+	/**
+	 * Schedules {@link CalculatorAdvanced#hasCharacteristic(char)} of a value.
+	 *
+	 * @param tenant The name of the tenant.
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 * @return A future completed with the result of the check, or with the exception of the check or admission.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	public CompletableFuture<Boolean> hasCharacteristic(String tenant, double value, char characteristic) {
+		return submit(tenant, hasCharacteristicCost(value, characteristic),
+				() -> calculator(value).hasCharacteristic(characteristic));
+	}
+
+	/**
+	 * Schedules {@link CalculatorAdvanced#characteristics()} of a value.
+	 *
+	 * @param tenant The name of the tenant.
+	 * @param value The value to classify.
+	 * @return A future completed with the bitmask of characteristics, or with the exception of the check or admission.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	public CompletableFuture<Integer> characteristics(String tenant, double value) {
+		return submit(tenant, characteristicsCost(value), () -> calculator(value).characteristics());
+	}
+
+	/**
+	 * Estimates the cost of {@link Calculator#calculate(Double, char)}, which is the unit of cost.
+	 *
+	 * @return The estimated cost.
+	 */
+	static long calculateCost() {
+		return 1;
+	}
+
+	/**
+	 * Estimates the cost of {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 *
+	 * @param action The operation to perform.
+	 * @return The estimated cost.
+	 */
+	static long calculateAdvancedCost(char action) {
+		return action == '!' ? 4 : 1;
+	}
+
+	/**
+	 * Estimates the cost of {@link CalculatorAdvanced#hasCharacteristic(char)}. Values that fit
+	 * in a long are looked up in tables. Larger Armstrong candidates of up to 200 bits are formatted
+	 * in decimal and their digit powers summed, which grows with the number of digits; longer ones
+	 * are rejected by their bit length. A larger perfect candidate needs a Lucas-Lehmer test only if it
+	 * has the shape {@code 2^(p-1) * (2^p - 1)}, which a double can only have for p up to 53;
+	 * any other value is rejected by the shape check.
+	 *
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 * @return The estimated cost.
+	 */
+	static long hasCharacteristicCost(double value, char characteristic) {
+		if(!(value >= CalculatorAdvanced.LONG_LIMIT) || Double.isInfinite(value)) {
+			return 1;
+		}
+		int bits = Math.getExponent(value) + 1;
+		if(characteristic == 'A') {
+			if(bits > Characteristics.MAX_ARMSTRONG_BITS) {
+				return REJECTED_COST;
+			}
+			long digits = 1 + (long) (bits * LOG10_2);
+			return 10 * digits;
+		}
+		int exponent = (bits + 1) / 2;
+		double mersenne = Math.scalb(1.0, exponent) - 1;
+		if(value != Math.scalb(mersenne, exponent - 1)) {
+			return REJECTED_COST;
+		}
+		return (long) exponent * exponent / 4;
+	}
+
+	/**
+	 * Estimates the cost of {@link CalculatorAdvanced#characteristics()}, whose factorization
+	 * divides by the primes up to the square root of the value.
+	 *
+	 * @param value The value to classify.
+	 * @return The estimated cost.
+	 */
+	static long characteristicsCost(double value) {
+		if(!(value >= 1.0) || value >= 0x1p31) {
+			return 1;
+		}
+		return 1 + (long) Math.sqrt(value) / 64;
+	}
+
+	/**
+	 * Gets the lane of an operation from its estimated cost.
+	 *
+	 * @param cost The estimated cost.
+	 * @return The index of the lane.
+	 */
+	static int lane(long cost) {
+		return cost >= EXPENSIVE_COST ? EXPENSIVE : CHEAP;
+	}
+
+	/**
+	 * Admits an operation and queues it in the lane of its cost.
+	 *
+	 * @param <T> The type of the result.
+	 * @param name The name of the tenant.
+	 * @param cost The estimated cost of the operation.
+	 * @param operation The operation.
+	 * @return A future completed with the result of the operation.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	<T> CompletableFuture<T> submit(String name, long cost, Callable<T> operation) {
+		int lane = lane(cost);
+		Task<T> task;
+		synchronized(this) {
+			Tenant tenant = tenant(name);
+			task = new Task<>(tenant, cost, operation);
+			if(tenant.outstandingCost + cost > tenant.costBudget) {
+				task.future.completeExceptionally(new RejectedExecutionException("Cost budget exceeded"));
+				return task.future;
+			}
+			tenant.outstandingCost += cost;
+			Queue<Task<?>> queue = tenant.queues[lane];
+			if(queue.isEmpty()) {
+				tenant.virtualTimes[lane] = Math.max(tenant.virtualTimes[lane], laneTimes[lane]);
+			}
+			queue.add(task);
+		}
+		dispatch(lane);
+		return task.future;
+	}
+
+	/**
+	 * Starts queued operations of a lane while it has free capacity.
+	 * An operation the executor rejects fails with the exception of the executor.
+	 *
+	 * @param lane The index of the lane.
+	 */
+	private void dispatch(int lane) {
+		while(true) {
+			Task<?> task = next(lane);
+			if(task == null) {
+				return;
+			}
+			try {
+				executor.execute(() -> run(task, lane));
+			} catch(RuntimeException e) {
+				finish(task, lane);
+				task.future.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * Takes the next operation of a lane, by weighted fair queueing, if the lane has free capacity.
+	 *
+	 * @param lane The index of the lane.
+	 * @return The operation, or null if the lane is full or has no queued operation.
+	 */
+	private synchronized Task<?> next(int lane) {
+		if(running[lane] >= parallelism[lane]) {
+			return null;
+		}
+		Tenant chosen = null;
+		for(Tenant tenant : tenants.values()) {
+			if(!tenant.queues[lane].isEmpty()
+					&& (chosen == null || tenant.virtualTimes[lane] < chosen.virtualTimes[lane])) {
+				chosen = tenant;
+			}
+		}
+		if(chosen == null) {
+			return null;
+		}
+		Task<?> task = chosen.queues[lane].poll();
+		laneTimes[lane] = chosen.virtualTimes[lane];
+		chosen.virtualTimes[lane] += (double) task.cost / chosen.weight;
+		running[lane]++;
+		return task;
+	}
+
+	/**
+	 * Runs an operation, releases its capacity and budget, completes its future
+	 * with its result or with anything it throws, and starts the next operation of its lane. The budget is released first,
+	 * so a tenant that waits for the future can submit again right away.
+	 *
+	 * @param <T> The type of the result.
+	 * @param task The operation.
+	 * @param lane The index of the lane.
+	 */
+	private <T> void run(Task<T> task, int lane) {
+		T result = null;
+		Throwable failure = null;
+		try {
+			result = task.operation.call();
+		} catch(Throwable e) {
+			failure = e;
+		} finally {
+			finish(task, lane);
+		}
+		try {
+			if(failure == null) {
+				task.future.complete(result);
+			} else {
+				task.future.completeExceptionally(failure);
+			}
+		} finally {
+			dispatch(lane);
+		}
+	}
+
+	/**
+	 * Releases the capacity and budget held by an operation.
+	 *
+	 * @param task The operation.
+	 * @param lane The index of the lane.
+	 */
+	private synchronized void finish(Task<?> task, int lane) {
+		running[lane]--;
+		task.tenant.outstandingCost -= task.cost;
+	}
+
+	/**
+	 * Gets a tenant by name.
+	 *
+	 * @param name The name of the tenant.
+	 * @return The tenant.
+	 * @throws IllegalArgumentException If the tenant does not exist.
+	 */
+	private Tenant tenant(String name) {
+		Tenant tenant = tenants.get(name);
+		if(tenant == null) {
+			throw new IllegalArgumentException("Unknown tenant");
+		}
+		return tenant;
+	}
+
+	/**
+	 * Creates a calculator without history, starting from a value.
+	 *
+	 * @param start The current value.
+	 * @return The calculator.
+	 */
+	private static CalculatorAdvanced calculator(double start) {
+		CalculatorAdvanced calculator = new CalculatorAdvanced(0);
+		calculator.setValue(start);
+		return calculator;
+	}
+}
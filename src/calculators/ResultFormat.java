@@ -0,0 +1,522 @@
+package calculators;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The ResultFormat class writes calculator results as ASCII text straight into a caller-supplied
+ * {@code byte[]} or {@link ByteBuffer}, without creating strings or other objects.
+ * Doubles are written in the layout of {@link Double#toString(double)}, with the shortest decimal
+ * that converts back to the same double, chosen with the Schubfach algorithm of Raffaello Giulietti:
+ * the decimal is found from the rounding interval of the double with a few 128-bit multiplications
+ * by a precomputed power of ten, without trial and error.
+ * Booleans, such as the results of {@link CalculatorAdvanced#hasCharacteristic(char)},
+ * are written as {@code true} or {@code false}.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class ResultFormat {
+	/**
+	 * The largest number of bytes written for a double, as in {@code -2.2250738585072014E-308}.
+	 */
+	public static final int MAX_LENGTH = 24;
+
+	/**
+	 * The number of significand bits of a double, including the hidden bit.
+	 */
+	private static final int P = 53;
+
+	/**
+	 * The smallest binary exponent of the significand of a double.
+	 */
+	private static final int Q_MIN = -1074;
+
+	/**
+	 * The smallest significand of a normal double.
+	 */
+	private static final long C_MIN = 1L << (P - 1);
+
+	/**
+	 * The subnormal significands that need one more decimal digit to be told apart.
+	 */
+	private static final long C_TINY = 3;
+
+	/**
+	 * The smallest decimal exponent of the power of ten table.
+	 */
+	private static final int K_MIN = -324;
+
+	/**
+	 * The largest decimal exponent of the power of ten table.
+	 */
+	private static final int K_MAX = 292;
+
+	/**
+	 * The mask of the lower 63 bits.
+	 */
+	private static final long MASK_63 = (1L << 63) - 1;
+
+	/**
+	 * The powers of ten {@code 10^-k} for k from {@link #K_MIN} to {@link #K_MAX}, each as a 126-bit
+	 * significand g split into its higher and lower 63 bits, with g rounded up.
+	 */
+	private static final long[] G = powersOfTen();
+
+	/**
+	 * The powers of ten that fit in a long.
+	 */
+	private static final long[] POW10 = new long[19];
+
+	static {
+		POW10[0] = 1;
+		for(int i = 1; i < POW10.length; i++) {
+			POW10[i] = 10 * POW10[i - 1];
+		}
+	}
+
+	/**
+	 * The text of true.
+	 */
+	private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+
+	/**
+	 * The text of false.
+	 */
+	private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+
+	/**
+	 * The text of NaN.
+	 */
+	private static final byte[] NAN = {'N', 'a', 'N'};
+
+	/**
+	 * The text of positive infinity.
+	 */
+	private static final byte[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+
+	/**
+	 * The buffer used to format into buffers without an accessible array.
+	 */
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[MAX_LENGTH]);
+
+	/**
+	 * The class only provides static methods.
+	 */
+	private ResultFormat() {
+	}
+
+	/**
+	 * Writes a double as in {@link Double#toString(double)}.
+	 *
+	 * @param value The value to write.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte in the buffer.
+	 * @return The number of bytes written.
+	 * @throws IllegalArgumentException If the text does not fit in the buffer after the offset.
+	 */
+	public static int format(double value, byte[] buffer, int offset) {
+		int length = write(value, buffer, offset, buffer.length);
+		if(length < 0) {
+			throw new IllegalArgumentException("Buffer too small");
+		}
+		return length;
+	}
+
+	/**
+	 * Writes a double as in {@link Double#toString(double)} at the position of a buffer,
+	 * and moves the position past the text.
+	 *
+	 * @param value The value to write.
+	 * @param buffer The buffer that receives the text.
+	 * @return The number of bytes written.
+	 * @throws BufferOverflowException If the text does not fit in the remaining bytes of the buffer.
+	 */
+	public static int format(double value, ByteBuffer buffer) {
+		int position = buffer.position();
+		int length;
+		if(buffer.hasArray()) {
+			int start = buffer.arrayOffset() + position;
+			length = write(value, buffer.array(), start, start + buffer.remaining());
+			if(length < 0) {
+				throw new BufferOverflowException();
+			}
+			buffer.position(position + length);
+		} else {
+			byte[] scratch = SCRATCH.get();
+			length = write(value, scratch, 0, scratch.length);
+			if(length > buffer.remaining()) {
+				throw new BufferOverflowException();
+			}
+			buffer.put(scratch, 0, length);
+		}
+		return length;
+	}
+
+	/**
+	 * Writes a boolean as in {@link Boolean#toString(boolean)}.
+	 *
+	 * @param value The value to write.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte in the buffer.
+	 * @return The number of bytes written.
+	 * @throws IllegalArgumentException If the text does not fit in the buffer after the offset.
+	 */
+	public static int format(boolean value, byte[] buffer, int offset) {
+		byte[] text = value ? TRUE : FALSE;
+		if(offset < 0 || offset > buffer.length - text.length) {
+			throw new IllegalArgumentException("Buffer too small");
+		}
+		System.arraycopy(text, 0, buffer, offset, text.length);
+		return text.length;
+	}
+
+	/**
+	 * Writes a boolean as in {@link Boolean#toString(boolean)} at the position of a buffer,
+	 * and moves the position past the text.
+	 *
+	 * @param value The value to write.
+	 * @param buffer The buffer that receives the text.
+	 * @return The number of bytes written.
+	 * @throws BufferOverflowException If the text does not fit in the remaining bytes of the buffer.
+	 */
+	public static int format(boolean value, ByteBuffer buffer) {
+		byte[] text = value ? TRUE : FALSE;
+		buffer.put(text);
+		return text.length;
+	}
+
+	/**
+	 * Writes the current value of a calculator, without boxing it.
+	 *
+	 * @param calculator The calculator.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte in the buffer.
+	 * @return The number of bytes written.
+	 * @throws IllegalArgumentException If the text does not fit in the buffer after the offset.
+	 */
+	public static int formatCurrentValue(Calculator calculator, byte[] buffer, int offset) {
+		return format(calculator.value(), buffer, offset);
+	}
+
+	/**
+	 * Writes the current value of a calculator at the position of a buffer, without boxing it,
+	 * and moves the position past the text.
+	 *
+	 * @param calculator The calculator.
+	 * @param buffer The buffer that receives the text.
+	 * @return The number of bytes written.
+	 * @throws BufferOverflowException If the text does not fit in the remaining bytes of the buffer.
+	 */
+	public static int formatCurrentValue(Calculator calculator, ByteBuffer buffer) {
+		return format(calculator.value(), buffer);
+	}
+
+	/**
+	 * Writes a double if it fits before a limit.
+	 *
+	 * @param value The value to write.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte.
+	 * @param limit The position after the last byte that may be written.
+	 * @return The number of bytes written, or -1 if the text does not fit.
+	 */
+	private static int write(double value, byte[] buffer, int offset, int limit) {
+		if(offset < 0 || offset > limit) {
+			return -1;
+		}
+		long bits = Double.doubleToRawLongBits(value);
+		boolean negative = bits < 0;
+		long t = bits & (C_MIN - 1);
+		int bq = (int) (bits >>> (P - 1)) & 0x7FF;
+		if(bq == 0x7FF) {
+			if(t != 0) {
+				return copy(NAN, false, buffer, offset, limit);
+			}
+			return copy(INFINITY, negative, buffer, offset, limit);
+		}
+		if(bq == 0 && t == 0) {
+			int length = negative ? 4 : 3;
+			if(limit - offset < length) {
+				return -1;
+			}
+			int at = offset;
+			if(negative) {
+				buffer[at++] = '-';
+			}
+			buffer[at++] = '0';
+			buffer[at++] = '.';
+			buffer[at] = '0';
+			return length;
+		}
+		if(bq != 0) {
+			int mq = -Q_MIN + 1 - bq;
+			long c = C_MIN | t;
+			if(mq > 0 && mq < P && (c >> mq) << mq == c) {
+				return digits(c >> mq, 0, negative, buffer, offset, limit);
+			}
+			return shortest(-mq, c, 0, negative, buffer, offset, limit);
+		}
+		if(t < C_TINY) {
+			return shortest(Q_MIN, 10 * t, -1, negative, buffer, offset, limit);
+		}
+		return shortest(Q_MIN, t, 0, negative, buffer, offset, limit);
+	}
+
+	/**
+	 * Finds the shortest decimal in the rounding interval of {@code c 2^q} and writes it.
+	 * Of several shortest decimals the one closest to the double is taken, and of two
+	 * equally close ones the one with an even last digit.
+	 *
+	 * @param q The binary exponent.
+	 * @param c The significand.
+	 * @param dk The correction of the decimal exponent for scaled subnormal significands.
+	 * @param negative Whether the value is negative.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte.
+	 * @param limit The position after the last byte that may be written.
+	 * @return The number of bytes written, or -1 if the text does not fit.
+	 */
+	private static int shortest(int q, long c, int dk, boolean negative, byte[] buffer, int offset, int limit) {
+		int out = (int) c & 1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		if(c != C_MIN || q == Q_MIN) {
+			cbl = cb - 2;
+			k = floorLog10Pow2(q);
+		} else {
+			cbl = cb - 1;
+			k = floorLog10ThreeQuartersPow2(q);
+		}
+		int h = q + floorLog2Pow10(-k) + 2;
+		long g1 = G[(k - K_MIN) << 1];
+		long g0 = G[((k - K_MIN) << 1) + 1];
+		long vb = roundToOdd(g1, g0, cb << h);
+		long vbl = roundToOdd(g1, g0, cbl << h);
+		long vbr = roundToOdd(g1, g0, cbr << h);
+		long s = vb >> 2;
+		if(s >= 100) {
+			long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if(upin != wpin) {
+				return digits(upin ? sp10 : tp10, k, negative, buffer, offset, limit);
+			}
+		}
+		long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		if(uin != win) {
+			return digits(uin ? s : t, k + dk, negative, buffer, offset, limit);
+		}
+		long cmp = vb - ((s + t) << 1);
+		return digits(cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, negative, buffer, offset, limit);
+	}
+
+	/**
+	 * Multiplies the 126-bit power of ten by a scaled significand and rounds the product to odd.
+	 *
+	 * @param g1 The higher 63 bits of the power of ten.
+	 * @param g0 The lower 63 bits of the power of ten.
+	 * @param cp The scaled significand.
+	 * @return The higher bits of the product, with the lowest bit set if any lower bit was set.
+	 */
+	private static long roundToOdd(long g1, long g0, long cp) {
+		long x1 = Math.multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = Math.multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+	}
+
+	/**
+	 * Writes the decimal {@code f 10^e} in the layout of {@link Double#toString(double)}:
+	 * plain from {@code 10^-3} up to {@code 10^7} and in computerized scientific notation otherwise,
+	 * always with at least one digit after the point.
+	 *
+	 * @param f The decimal significand, which is positive.
+	 * @param e The decimal exponent.
+	 * @param negative Whether the value is negative.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte.
+	 * @param limit The position after the last byte that may be written.
+	 * @return The number of bytes written, or -1 if the text does not fit.
+	 */
+	private static int digits(long f, int e, boolean negative, byte[] buffer, int offset, int limit) {
+		while(f % 10 == 0) {
+			f /= 10;
+			e++;
+		}
+		int n = digitCount(f);
+		int scientific = e + n - 1;
+		int sign = negative ? 1 : 0;
+		int length;
+		if(scientific >= 0 && scientific < 7) {
+			length = sign + scientific + 2 + Math.max(n - scientific - 1, 1);
+		} else if(scientific < 0 && scientific >= -3) {
+			length = sign + 1 - scientific + n;
+		} else {
+			int exponentDigits = digitCount(Math.abs(scientific));
+			length = sign + 2 + Math.max(n - 1, 1) + 1 + (scientific < 0 ? 1 : 0) + exponentDigits;
+		}
+		if(limit - offset < length) {
+			return -1;
+		}
+		int at = offset;
+		if(negative) {
+			buffer[at++] = '-';
+		}
+		if(scientific >= 0 && scientific < 7) {
+			int fraction = n - scientific - 1;
+			if(fraction > 0) {
+				at = writeDigits(f / POW10[fraction], scientific + 1, buffer, at);
+				buffer[at++] = '.';
+				writeDigits(f % POW10[fraction], fraction, buffer, at);
+			} else {
+				at = writeDigits(f, n, buffer, at);
+				for(int i = 0; i < -fraction; i++) {
+					buffer[at++] = '0';
+				}
+				buffer[at++] = '.';
+				buffer[at] = '0';
+			}
+		} else if(scientific < 0 && scientific >= -3) {
+			buffer[at++] = '0';
+			buffer[at++] = '.';
+			for(int i = 1; i < -scientific; i++) {
+				buffer[at++] = '0';
+			}
+			writeDigits(f, n, buffer, at);
+		} else {
+			long first = f / POW10[n - 1];
+			buffer[at++] = (byte) ('0' + first);
+			buffer[at++] = '.';
+			if(n > 1) {
+				at = writeDigits(f - first * POW10[n - 1], n - 1, buffer, at);
+			} else {
+				buffer[at++] = '0';
+			}
+			buffer[at++] = 'E';
+			if(scientific < 0) {
+				buffer[at++] = '-';
+			}
+			int magnitude = Math.abs(scientific);
+			writeDigits(magnitude, digitCount(magnitude), buffer, at);
+		}
+		return length;
+	}
+
+	/**
+	 * Writes the lowest digits of a number, with leading zeros up to the given width.
+	 *
+	 * @param number The number, which is not negative.
+	 * @param width The number of digits to write.
+	 * @param buffer The buffer that receives the digits.
+	 * @param at The position of the first digit.
+	 * @return The position after the last digit.
+	 */
+	private static int writeDigits(long number, int width, byte[] buffer, int at) {
+		for(int i = at + width - 1; i >= at; i--) {
+			buffer[i] = (byte) ('0' + number % 10);
+			number /= 10;
+		}
+		return at + width;
+	}
+
+	/**
+	 * Counts the decimal digits of a positive number.
+	 *
+	 * @param number The number.
+	 * @return The number of digits.
+	 */
+	private static int digitCount(long number) {
+		int count = 1;
+		while(count < POW10.length && number >= POW10[count]) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Copies a constant text, with a minus sign if requested.
+	 *
+	 * @param text The text.
+	 * @param negative Whether to write a minus sign first.
+	 * @param buffer The buffer that receives the text.
+	 * @param offset The position of the first byte.
+	 * @param limit The position after the last byte that may be written.
+	 * @return The number of bytes written, or -1 if the text does not fit.
+	 */
+	private static int copy(byte[] text, boolean negative, byte[] buffer, int offset, int limit) {
+		int sign = negative ? 1 : 0;
+		if(limit - offset < sign + text.length) {
+			return -1;
+		}
+		if(negative) {
+			buffer[offset] = '-';
+		}
+		System.arraycopy(text, 0, buffer, offset + sign, text.length);
+		return sign + text.length;
+	}
+
+	/**
+	 * Computes {@code floor(e log10(2))}.
+	 *
+	 * @param e The exponent, with an absolute value of at most 5456721.
+	 * @return The floor of the decimal logarithm of {@code 2^e}.
+	 */
+	private static int floorLog10Pow2(int e) {
+		return (int) (e * 661_971_961_083L >> 41);
+	}
+
+	/**
+	 * Computes {@code floor(log10(3/4 2^e))}.
+	 *
+	 * @param e The exponent, with an absolute value of at most 2796202.
+	 * @return The floor of the decimal logarithm of {@code 3/4 2^e}.
+	 */
+	private static int floorLog10ThreeQuartersPow2(int e) {
+		return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+	}
+
+	/**
+	 * Computes {@code floor(e log2(10))}.
+	 *
+	 * @param e The exponent, with an absolute value of at most 1838394.
+	 * @return The floor of the binary logarithm of {@code 10^e}.
+	 */
+	private static int floorLog2Pow10(int e) {
+		return (int) (e * 913_124_641_741L >> 38);
+	}
+
+	/**
+	 * Computes the table of powers of ten. For each k, {@code 10^-k = beta 2^r} with
+	 * {@code 2^125 <= beta < 2^126}, and {@code g = floor(beta) + 1} is stored as two 63-bit halves.
+	 *
+	 * @return The table.
+	 */
+	private static long[] powersOfTen() {
+		long[] table = new long[(K_MAX - K_MIN + 1) << 1];
+		BigInteger mask = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+		for(int k = K_MIN; k <= K_MAX; k++) {
+			int shift = 125 - floorLog2Pow10(-k);
+			BigInteger g;
+			if(k <= 0) {
+				BigInteger power = BigInteger.TEN.pow(-k);
+				g = shift >= 0 ? power.shiftLeft(shift) : power.shiftRight(-shift);
+			} else {
+				g = BigInteger.ONE.shiftLeft(shift).divide(BigInteger.TEN.pow(k));
+			}
+			g = g.add(BigInteger.ONE);
+			table[(k - K_MIN) << 1] = g.shiftRight(63).longValueExact();
+			table[((k - K_MIN) << 1) + 1] = g.and(mask).longValue();
+		}
+		return table;
+	}
+}
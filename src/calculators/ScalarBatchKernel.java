@@ -0,0 +1,100 @@
+package calculators;
+
+/**
+ * The plain Java loops behind {@link BatchCalculator}, used when the Vector API is not available
+ * and for the elements after the last full vector.
+ * The arithmetic loops are simple counted loops that the JIT compiler may vectorize on its own;
+ * the loops that mark lanes in a bitmap and the power loop are not.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class ScalarBatchKernel implements BatchKernel {
+	/**
+	 * The shared instance; the kernel has no state.
+	 */
+	static final ScalarBatchKernel INSTANCE = new ScalarBatchKernel();
+
+	/**
+	 * Only the shared instance is created.
+	 */
+	private ScalarBatchKernel() {
+	}
+
+	@Override
+	public void calculate(double[] values, double operand, char operator, double[] results, int from, int to) {
+		switch(operator) {
+		case '+':
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] + operand;
+			}
+			break;
+		case '-':
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] - operand;
+			}
+			break;
+		case '*':
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] * operand;
+			}
+			break;
+		default:
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] / operand;
+			}
+			break;
+		}
+	}
+
+	@Override
+	public void calculate(double[] values, double[] operands, char operator, double[] results, long[] divisionByZero,
+			int from, int to) {
+		switch(operator) {
+		case '+':
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] + operands[i];
+			}
+			break;
+		case '-':
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] - operands[i];
+			}
+			break;
+		case '*':
+			for(int i = from; i < to; i++) {
+				results[i] = values[i] * operands[i];
+			}
+			break;
+		default:
+			for(int i = from; i < to; i++) {
+				if(operands[i] == 0) {
+					divisionByZero[i >>> 6] |= 1L << i;
+				}
+			}
+			for(int i = from; i < to; i++) {
+				double operand = operands[i];
+				results[i] = operand == 0 ? values[i] : values[i] / operand;
+			}
+			break;
+		}
+	}
+
+	@Override
+	public void power(double[] values, int exponent, double[] results, long[] negative, int from, int to) {
+		for(int i = from; i < to; i++) {
+			if(values[i] < 0.0) {
+				negative[i >>> 6] |= 1L << i;
+			}
+		}
+		for(int i = from; i < to; i++) {
+			double value = values[i];
+			double result = 1.0;
+			for(int e = 0; e < exponent; e++) {
+				result *= value;
+			}
+			results[i] = value < 0.0 ? value : result;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package exceptions;
+
+/**
+ * Exception thrown when an operation stops because its cancellation token was cancelled
+ * or its deadline passed. The operation leaves the calculator unchanged.
+ * This exception is a subclass of {@link Exception} and provides a constructor
+ * that accepts a message to describe whether the operation was cancelled or timed out.
+ * 
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class OperationCancelledException extends Exception {
+	
+	private static final long serialVersionUID = 1L;
+
+	
+	/**
+	 * Constructs a new {@code OperationCancelledException} with the specified detail message.
+     * The message provides additional context about the error.
+     * 
+	 * @param message The detail message.
+	 */
+	public OperationCancelledException(String message) {
+		super(message);
+	}
+}
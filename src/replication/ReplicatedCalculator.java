@@ -0,0 +1,88 @@
+package replication;
+
+import calculators.CalculatorAdvanced;
+import exceptions.DivisionByZeroException;
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+/**
+ * An advanced calculator that publishes every change of its current value
+ * to a {@link ReplicationPublisher}, so that a {@link ReplicationFollower} can mirror it.
+ * Only operations that complete are published.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ReplicatedCalculator extends CalculatorAdvanced {
+	/**
+	 * The id of the session of this calculator.
+	 */
+	private final int session;
+
+	/**
+	 * The publisher that receives the changes.
+	 */
+	private final ReplicationPublisher publisher;
+
+	/**
+	 * Constructs a new replicated calculator.
+	 *
+	 * @param session The id of the session of this calculator.
+	 * @param publisher The publisher that receives the changes.
+	 * @throws IllegalArgumentException If the publisher is null.
+	 */
+	public ReplicatedCalculator(int session, ReplicationPublisher publisher) {
+		super();
+		if(publisher == null) {
+			throw new IllegalArgumentException("Publisher cannot be null");
+		}
+		this.session = session;
+		this.publisher = publisher;
+	}
+
+	/**
+	 * Gets the id of the session of this calculator.
+	 *
+	 * @return the session id
+	 */
+	public int getSession() {
+		return session;
+	}
+
+	@Override
+	public void setCurrentValue(Double currentValue) {
+		super.setCurrentValue(currentValue);
+		publisher.publishSet(session, currentValue);
+	}
+
+	@Override
+	public void calculate(Double value, char operator) throws DivisionByZeroException, NotSupportedOperationException {
+		super.calculate(value, operator);
+		publisher.publishCalculate(session, operator, value, getCurrentValue());
+	}
+
+	@Override
+	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		super.calculateAdvanced(action);
+		publisher.publishCalculateAdvanced(session, action, getCurrentValue());
+	}
+
+	@Override
+	public void undo() {
+		super.undo();
+		publisher.publishSet(session, getCurrentValue());
+	}
+
+	@Override
+	public void redo() {
+		super.redo();
+		publisher.publishSet(session, getCurrentValue());
+	}
+
+	@Override
+	public void jumpTo(int index) {
+		super.jumpTo(index);
+		publisher.publishSet(session, getCurrentValue());
+	}
+}
@@ -0,0 +1,255 @@
+package replication;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import calculators.CalculatorAdvanced;
+
+/**
+ * The hot-standby side of calculator replication.
+ * The follower tails the ring file of a {@link ReplicationPublisher}, possibly in another process,
+ * and applies every record to its own calculator of the same session.
+ * Records are expected in consecutive sequence numbers. When the next record has already been
+ * overwritten, the follower has fallen more than the capacity of the ring behind; it then loads the
+ * latest snapshot, which replaces all of its sessions, and continues from the records that follow it.
+ * If the snapshot is not newer than the follower, the gap stays open until the primary writes a newer snapshot.
+ * A follower is used by one thread at a time.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ReplicationFollower implements Closeable {
+	/**
+	 * The channel of the ring file.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * The mapped ring file.
+	 */
+	private final MappedByteBuffer ring;
+
+	/**
+	 * The capacity of the ring, in records.
+	 */
+	private final int capacity;
+
+	/**
+	 * The snapshot file, or null if the follower cannot catch up.
+	 */
+	private final Path snapshot;
+
+	/**
+	 * The calculators of the replicated sessions by session id.
+	 */
+	private final Map<Integer, CalculatorAdvanced> calculators = new HashMap<>();
+
+	/**
+	 * The sequence number of the next record to apply.
+	 */
+	private long expected;
+
+	/**
+	 * The number of gaps detected.
+	 */
+	private long gaps;
+
+	/**
+	 * The number of records whose result differed from the local calculation.
+	 */
+	private long divergences;
+
+	/**
+	 * Opens the ring file of a primary.
+	 *
+	 * @param file The ring file.
+	 * @param snapshot The snapshot file written by the primary, or null.
+	 * @throws IOException If the file cannot be opened, is not a replication ring or has an invalid capacity.
+	 */
+	public ReplicationFollower(Path file, Path snapshot) throws IOException {
+		this.snapshot = snapshot;
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, RingLayout.RECORDS_OFFSET);
+		header.order(ByteOrder.nativeOrder());
+		if(header.getInt(RingLayout.MAGIC_OFFSET) != RingLayout.MAGIC) {
+			channel.close();
+			throw new IOException("Not a replication ring");
+		}
+		this.capacity = header.getInt(RingLayout.CAPACITY_OFFSET);
+		if(capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			channel.close();
+			throw new IOException("Capacity must be a power of two");
+		}
+		this.ring = channel.map(FileChannel.MapMode.READ_ONLY, 0, RingLayout.fileSize(capacity));
+		this.ring.order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Applies all records published since the last poll.
+	 *
+	 * @return The number of records applied.
+	 * @throws IOException If a snapshot is needed and cannot be read.
+	 */
+	public int poll() throws IOException {
+		int applied = 0;
+		long published = (long) RingLayout.LONGS.getAcquire(ring, RingLayout.PUBLISHED_OFFSET);
+		while(expected < published) {
+			if(published - expected > capacity) {
+				if(!catchUp()) {
+					return applied;
+				}
+				continue;
+			}
+			int offset = RingLayout.recordOffset(expected, capacity);
+			long before = (long) RingLayout.LONGS.getAcquire(ring, offset + RingLayout.SEQUENCE);
+			int session = ring.getInt(offset + RingLayout.SESSION);
+			short kind = ring.getShort(offset + RingLayout.KIND);
+			char operator = ring.getChar(offset + RingLayout.OPERATOR);
+			double operand = ring.getDouble(offset + RingLayout.OPERAND);
+			double result = ring.getDouble(offset + RingLayout.RESULT);
+			VarHandle.loadLoadFence();
+			long after = (long) RingLayout.LONGS.getOpaque(ring, offset + RingLayout.SEQUENCE);
+			if(before != expected + 1 || after != before) {
+				if(!catchUp()) {
+					return applied;
+				}
+				continue;
+			}
+			apply(session, kind, operator, operand, result);
+			expected++;
+			applied++;
+		}
+		return applied;
+	}
+
+	/**
+	 * Gets the calculator of a replicated session.
+	 *
+	 * @param session The id of the session.
+	 * @return The calculator, or null if nothing was replicated for the session.
+	 */
+	public CalculatorAdvanced getCalculator(int session) {
+		return calculators.get(session);
+	}
+
+	/**
+	 * Gets the number of records applied or covered by a snapshot.
+	 *
+	 * @return the sequence number of the next record to apply
+	 */
+	public long getSequence() {
+		return expected;
+	}
+
+	/**
+	 * Gets the number of gaps detected, each of which needed a snapshot.
+	 *
+	 * @return the number of gaps
+	 */
+	public long getGaps() {
+		return gaps;
+	}
+
+	/**
+	 * Gets the number of records whose published result differed from the local calculation,
+	 * for example because the primary calculator uses the precision mode.
+	 * The published result is taken in that case.
+	 *
+	 * @return the number of divergences
+	 */
+	public long getDivergences() {
+		return divergences;
+	}
+
+	/**
+	 * Closes the ring file.
+	 *
+	 * @throws IOException If the file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Applies one record to the calculator of its session.
+	 *
+	 * @param session The id of the session.
+	 * @param kind The kind of operation.
+	 * @param operator The operator or action.
+	 * @param operand The operand or the new value.
+	 * @param result The current value after the operation on the primary.
+	 */
+	private void apply(int session, short kind, char operator, double operand, double result) {
+		CalculatorAdvanced calculator = calculators.computeIfAbsent(session, id -> new CalculatorAdvanced());
+		try {
+			switch(kind) {
+			case RingLayout.CALCULATE:
+				calculator.calculate(operand, operator);
+				break;
+			case RingLayout.CALCULATE_ADVANCED:
+				calculator.calculateAdvanced(operator);
+				break;
+			default:
+				calculator.setCurrentValue(operand);
+				break;
+			}
+		} catch(Exception e) {
+			divergences++;
+			calculator.setCurrentValue(result);
+			return;
+		}
+		if(Double.compare(calculator.getCurrentValue(), result) != 0) {
+			divergences++;
+			calculator.setCurrentValue(result);
+		}
+	}
+
+	/**
+	 * Loads the snapshot file if it is newer than the follower.
+	 * The snapshot replaces all sessions, so sessions closed on the primary since the last record
+	 * the follower applied are dropped rather than kept with a stale value.
+	 *
+	 * @return True if the follower moved forward, false otherwise.
+	 * @throws IOException If the snapshot cannot be read.
+	 */
+	private boolean catchUp() throws IOException {
+		if(snapshot == null) {
+			return false;
+		}
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+			long sequence = in.readLong();
+			if(sequence <= expected) {
+				return false;
+			}
+			int count = in.readInt();
+			Map<Integer, Double> values = new HashMap<>();
+			for(int i = 0; i < count; i++) {
+				int session = in.readInt();
+				values.put(session, in.readDouble());
+			}
+			calculators.keySet().retainAll(values.keySet());
+			for(Map.Entry<Integer, Double> value : values.entrySet()) {
+				calculators.computeIfAbsent(value.getKey(), id -> new CalculatorAdvanced()).setCurrentValue(value.getValue());
+			}
+			expected = sequence;
+			gaps++;
+			return true;
+		} catch(NoSuchFileException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package replication;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import calculators.Calculator;
+
+/**
+ * The primary side of calculator replication.
+ * Applied operations are written as fixed-size binary records into a memory-mapped ring file,
+ * which a {@link ReplicationFollower} in another process on the same host tails.
+ * The ring has a single producer: all publish and snapshot methods must be called from one thread at a time.
+ * A record is guarded by its sequence number, which is cleared before the record is overwritten
+ * and stored with release semantics after it, so a follower never applies a torn record.
+ * When the follower falls more than the capacity of the ring behind, it catches up from
+ * the latest snapshot written with {@link #writeSnapshot(Path, Map)}.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class ReplicationPublisher implements Closeable {
+	/**
+	 * The channel of the ring file.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * The mapped ring file.
+	 */
+	private final MappedByteBuffer ring;
+
+	/**
+	 * The capacity of the ring, in records.
+	 */
+	private final int capacity;
+
+	/**
+	 * The sequence number of the next record.
+	 */
+	private long sequence;
+
+	/**
+	 * Creates a new ring file, replacing an existing one.
+	 *
+	 * @param file The ring file.
+	 * @param capacity The capacity of the ring in records, a power of two.
+	 * @throws IOException If the file cannot be created or mapped.
+	 * @throws IllegalArgumentException If the capacity is not a power of two.
+	 */
+	public ReplicationPublisher(Path file, int capacity) throws IOException {
+		if(capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity must be a power of two");
+		}
+		this.capacity = capacity;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		this.ring = channel.map(FileChannel.MapMode.READ_WRITE, 0, RingLayout.fileSize(capacity));
+		this.ring.order(ByteOrder.nativeOrder());
+		this.ring.putInt(RingLayout.CAPACITY_OFFSET, capacity);
+		RingLayout.LONGS.setRelease(ring, RingLayout.PUBLISHED_OFFSET, 0L);
+		this.ring.putInt(RingLayout.MAGIC_OFFSET, RingLayout.MAGIC);
+	}
+
+	/**
+	 * Gets the number of records published so far.
+	 *
+	 * @return the sequence number of the next record
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Publishes an applied {@link Calculator#calculate(Double, char)} operation.
+	 *
+	 * @param session The id of the calculator session.
+	 * @param operator The operator of the operation.
+	 * @param operand The value operated with.
+	 * @param result The current value after the operation.
+	 */
+	public void publishCalculate(int session, char operator, double operand, double result) {
+		publish(session, RingLayout.CALCULATE, operator, operand, result);
+	}
+
+	/**
+	 * Publishes an applied {@link calculators.CalculatorAdvanced#calculateAdvanced(char)} operation.
+	 *
+	 * @param session The id of the calculator session.
+	 * @param action The action of the operation.
+	 * @param result The current value after the operation.
+	 */
+	public void publishCalculateAdvanced(int session, char action, double result) {
+		publish(session, RingLayout.CALCULATE_ADVANCED, action, 0.0, result);
+	}
+
+	/**
+	 * Publishes a new current value set directly, or restored by undo or redo.
+	 *
+	 * @param session The id of the calculator session.
+	 * @param value The new current value.
+	 */
+	public void publishSet(int session, double value) {
+		publish(session, RingLayout.SET, '=', value, value);
+	}
+
+	/**
+	 * Writes the current values of all sessions, together with the number of records they include,
+	 * to a snapshot file. The file is replaced atomically, so a follower never reads a partial snapshot.
+	 * Must be called from the publishing thread, so that the values match the published records.
+	 *
+	 * @param file The snapshot file.
+	 * @param sessions The calculators of all live sessions by session id.
+	 * @throws IOException If the snapshot cannot be written.
+	 */
+	public void writeSnapshot(Path file, Map<Integer, ? extends Calculator> sessions) throws IOException {
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+			out.writeLong(sequence);
+			out.writeInt(sessions.size());
+			for(Map.Entry<Integer, ? extends Calculator> session : sessions.entrySet()) {
+				out.writeInt(session.getKey());
+				out.writeDouble(session.getValue().getCurrentValue());
+			}
+		}
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Closes the ring file.
+	 *
+	 * @throws IOException If the file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Writes one record and makes it visible to followers.
+	 *
+	 * @param session The id of the calculator session.
+	 * @param kind The kind of operation.
+	 * @param operator The operator or action.
+	 * @param operand The operand or the new value.
+	 * @param result The current value after the operation.
+	 */
+	private void publish(int session, short kind, char operator, double operand, double result) {
+		int offset = RingLayout.recordOffset(sequence, capacity);
+		RingLayout.LONGS.setOpaque(ring, offset + RingLayout.SEQUENCE, 0L);
+		VarHandle.storeStoreFence();
+		ring.putInt(offset + RingLayout.SESSION, session);
+		ring.putShort(offset + RingLayout.KIND, kind);
+		ring.putChar(offset + RingLayout.OPERATOR, operator);
+		ring.putDouble(offset + RingLayout.OPERAND, operand);
+		ring.putDouble(offset + RingLayout.RESULT, result);
+		RingLayout.LONGS.setRelease(ring, offset + RingLayout.SEQUENCE, sequence + 1);
+		sequence++;
+		RingLayout.LONGS.setRelease(ring, RingLayout.PUBLISHED_OFFSET, sequence);
+	}
+}
@@ -0,0 +1,126 @@
+package replication;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * The binary layout of the memory-mapped replication ring shared by
+ * {@link ReplicationPublisher} and {@link ReplicationFollower}.
+ * The file starts with a header holding a magic number, the capacity of the ring
+ * and the number of published records, followed by the ring of fixed-size records.
+ * Each record holds its sequence number plus one (zero while it is being written),
+ * the session id, the kind of operation, the operator, the operand and the resulting value.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+final class RingLayout {
+	/**
+	 * Identifies a replication ring file.
+	 */
+	static final int MAGIC = 0x43414C43;
+
+	/**
+	 * The offset of the magic number.
+	 */
+	static final int MAGIC_OFFSET = 0;
+
+	/**
+	 * The offset of the ring capacity, in records.
+	 */
+	static final int CAPACITY_OFFSET = 4;
+
+	/**
+	 * The offset of the number of published records, on its own cache line.
+	 */
+	static final int PUBLISHED_OFFSET = 64;
+
+	/**
+	 * The offset of the first record.
+	 */
+	static final int RECORDS_OFFSET = 128;
+
+	/**
+	 * The size of one record in bytes.
+	 */
+	static final int RECORD_SIZE = 32;
+
+	/**
+	 * The offset of the sequence number plus one within a record.
+	 */
+	static final int SEQUENCE = 0;
+
+	/**
+	 * The offset of the session id within a record.
+	 */
+	static final int SESSION = 8;
+
+	/**
+	 * The offset of the kind of operation within a record.
+	 */
+	static final int KIND = 12;
+
+	/**
+	 * The offset of the operator within a record.
+	 */
+	static final int OPERATOR = 14;
+
+	/**
+	 * The offset of the operand within a record.
+	 */
+	static final int OPERAND = 16;
+
+	/**
+	 * The offset of the resulting value within a record.
+	 */
+	static final int RESULT = 24;
+
+	/**
+	 * A record of {@link calculators.Calculator#calculate(Double, char)}.
+	 */
+	static final short CALCULATE = 1;
+
+	/**
+	 * A record of {@link calculators.CalculatorAdvanced#calculateAdvanced(char)}.
+	 */
+	static final short CALCULATE_ADVANCED = 2;
+
+	/**
+	 * A record that sets the current value, for direct sets, undo and redo.
+	 */
+	static final short SET = 3;
+
+	/**
+	 * Accesses longs of the mapped file with memory ordering.
+	 */
+	static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+	/**
+	 * The layout only provides constants.
+	 */
+	private RingLayout() {
+	}
+
+	/**
+	 * Gets the size of a ring file.
+	 *
+	 * @param capacity The capacity of the ring, in records.
+	 * @return The size of the file in bytes.
+	 */
+	static long fileSize(int capacity) {
+		return RECORDS_OFFSET + (long) capacity * RECORD_SIZE;
+	}
+
+	/**
+	 * Gets the offset of the record holding a sequence number.
+	 *
+	 * @param sequence The sequence number.
+	 * @param capacity The capacity of the ring, a power of two.
+	 * @return The offset of the record.
+	 */
+	static int recordOffset(long sequence, int capacity) {
+		return RECORDS_OFFSET + (int) (sequence & (capacity - 1)) * RECORD_SIZE;
+	}
+}
@@ -0,0 +1,288 @@
+package statistics;
+
+import java.util.Arrays;
+
+/**
+ * A mergeable sketch that answers quantile queries with a bounded relative error.
+ * Values are counted in logarithmic buckets whose bounds grow by the factor
+ * {@code (1 + accuracy) / (1 - accuracy)}, so every quantile is returned within the given
+ * relative accuracy of a value of the recorded rank, whatever the range of the values.
+ * Adding and removing a value is O(1) amortized, and two sketches with the same accuracy
+ * are merged by adding their bucket counts, so the result does not depend on how
+ * the values were split between sketches.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class QuantileSketch {
+	/**
+	 * The relative accuracy used by default.
+	 */
+	public static final double DEFAULT_ACCURACY = 0.01;
+
+	/**
+	 * The relative accuracy of the quantiles.
+	 */
+	private final double accuracy;
+
+	/**
+	 * The natural logarithm of the growth factor of the buckets.
+	 */
+	private final double logGamma;
+
+	/**
+	 * The buckets of the positive values.
+	 */
+	private final Buckets positive = new Buckets();
+
+	/**
+	 * The buckets of the magnitudes of the negative values.
+	 */
+	private final Buckets negative = new Buckets();
+
+	/**
+	 * The number of zero values.
+	 */
+	private long zeros;
+
+	/**
+	 * The number of values.
+	 */
+	private long count;
+
+	/**
+	 * Constructs an empty sketch with the default accuracy.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_ACCURACY);
+	}
+
+	/**
+	 * Constructs an empty sketch.
+	 *
+	 * @param accuracy The relative accuracy of the quantiles, between 0 and 1 exclusive.
+	 * @throws IllegalArgumentException If the accuracy is not between 0 and 1.
+	 */
+	public QuantileSketch(double accuracy) {
+		if(!(accuracy > 0.0 && accuracy < 1.0)) {
+			throw new IllegalArgumentException("Accuracy must be between 0 and 1");
+		}
+		this.accuracy = accuracy;
+		this.logGamma = Math.log((1.0 + accuracy) / (1.0 - accuracy));
+	}
+
+	/**
+	 * Gets the relative accuracy of the quantiles.
+	 *
+	 * @return the accuracy
+	 */
+	public double getAccuracy() {
+		return accuracy;
+	}
+
+	/**
+	 * Gets the number of values in the sketch.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Adds a value.
+	 *
+	 * @param value The value to add.
+	 * @throws IllegalArgumentException If the value is infinite or NaN.
+	 */
+	public void add(double value) {
+		update(value, 1);
+	}
+
+	/**
+	 * Removes a value that was added before.
+	 *
+	 * @param value The value to remove.
+	 * @throws IllegalArgumentException If the value is infinite or NaN.
+	 */
+	public void remove(double value) {
+		update(value, -1);
+	}
+
+	/**
+	 * Adds all values of another sketch to this one.
+	 *
+	 * @param other The sketch to merge.
+	 * @throws IllegalArgumentException If the sketches have different accuracies.
+	 */
+	public void merge(QuantileSketch other) {
+		if(other.accuracy != accuracy) {
+			throw new IllegalArgumentException("Sketches must have the same accuracy");
+		}
+		positive.merge(other.positive);
+		negative.merge(other.negative);
+		zeros += other.zeros;
+		count += other.count;
+	}
+
+	/**
+	 * Removes all values, keeping the allocated buckets.
+	 */
+	public void clear() {
+		positive.clear();
+		negative.clear();
+		zeros = 0;
+		count = 0;
+	}
+
+	/**
+	 * Gets a quantile of the values.
+	 *
+	 * @param quantile The quantile, from 0 for the minimum to 1 for the maximum.
+	 * @return The value at the quantile within the relative accuracy, or NaN if the sketch is empty.
+	 * @throws IllegalArgumentException If the quantile is not between 0 and 1.
+	 */
+	public double quantile(double quantile) {
+		if(!(quantile >= 0.0 && quantile <= 1.0)) {
+			throw new IllegalArgumentException("Quantile must be between 0 and 1");
+		}
+		if(count == 0) {
+			return Double.NaN;
+		}
+		long rank = (long) (quantile * (count - 1));
+		long seen = 0;
+		for(int i = negative.counts.length - 1; i >= 0; i--) {
+			seen += negative.counts[i];
+			if(seen > rank) {
+				return -bucketValue(negative.offset + i);
+			}
+		}
+		seen += zeros;
+		if(seen > rank) {
+			return 0.0;
+		}
+		for(int i = 0; i < positive.counts.length; i++) {
+			seen += positive.counts[i];
+			if(seen > rank) {
+				return bucketValue(positive.offset + i);
+			}
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Adds a count to the bucket of a value.
+	 *
+	 * @param value The value.
+	 * @param delta The count to add.
+	 */
+	private void update(double value, long delta) {
+		if(!Double.isFinite(value)) {
+			throw new IllegalArgumentException("Value must be finite");
+		}
+		if(value > 0.0) {
+			positive.add(bucketIndex(value), delta);
+		} else if(value < 0.0) {
+			negative.add(bucketIndex(-value), delta);
+		} else {
+			zeros += delta;
+		}
+		count += delta;
+	}
+
+	/**
+	 * Gets the index of the bucket holding a positive value.
+	 *
+	 * @param value The value.
+	 * @return The bucket index.
+	 */
+	private int bucketIndex(double value) {
+		return (int) Math.ceil(Math.log(value) / logGamma);
+	}
+
+	/**
+	 * Gets the value that represents a bucket, which is within the accuracy of every value in it.
+	 *
+	 * @param index The bucket index.
+	 * @return The representative value.
+	 */
+	private double bucketValue(int index) {
+		return Math.min(Math.exp(index * logGamma + Math.log1p(-accuracy)), Double.MAX_VALUE);
+	}
+
+	/**
+	 * A dense, growable array of bucket counts.
+	 */
+	private static final class Buckets {
+		/**
+		 * The number of buckets allocated at first.
+		 */
+		private static final int INITIAL_SIZE = 64;
+
+		/**
+		 * The counts of the buckets.
+		 */
+		private long[] counts = new long[0];
+
+		/**
+		 * The index of the bucket stored at position 0.
+		 */
+		private int offset;
+
+		/**
+		 * Adds a count to a bucket.
+		 *
+		 * @param index The bucket index.
+		 * @param delta The count to add.
+		 */
+		void add(int index, long delta) {
+			ensure(index);
+			counts[index - offset] += delta;
+		}
+
+		/**
+		 * Adds the counts of other buckets.
+		 *
+		 * @param other The buckets to add.
+		 */
+		void merge(Buckets other) {
+			for(int i = 0; i < other.counts.length; i++) {
+				if(other.counts[i] != 0) {
+					add(other.offset + i, other.counts[i]);
+				}
+			}
+		}
+
+		/**
+		 * Sets all counts to zero.
+		 */
+		void clear() {
+			Arrays.fill(counts, 0);
+		}
+
+		/**
+		 * Grows the array so that it holds a bucket.
+		 *
+		 * @param index The bucket index.
+		 */
+		private void ensure(int index) {
+			if(counts.length == 0) {
+				counts = new long[INITIAL_SIZE];
+				offset = index - INITIAL_SIZE / 2;
+				return;
+			}
+			if(index >= offset && index < offset + counts.length) {
+				return;
+			}
+			int low = Math.min(offset, index);
+			int high = Math.max(offset + counts.length - 1, index);
+			int size = Math.max(high - low + 1, 2 * counts.length);
+			int newOffset = index < offset ? high - size + 1 : low;
+			long[] grown = new long[size];
+			System.arraycopy(counts, 0, grown, offset - newOffset, counts.length);
+			counts = grown;
+			offset = newOffset;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package statistics;
+
+/**
+ * Running statistics of a stream of values: count, mean, variance, minimum, maximum and quantiles.
+ * The mean and variance are updated with Welford's algorithm, which stays accurate when the values
+ * are large compared to their spread, and two accumulators are merged with the parallel form
+ * of the same update. Quantiles come from a {@link QuantileSketch}.
+ * Infinite and NaN values, such as a current value after an overflow, are counted separately
+ * and left out of the statistics.
+ * Recording a value is O(1) amortized and does not allocate once the sketch covers the range of values.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class RunningStatistics {
+	/**
+	 * The number of finite values.
+	 */
+	private long count;
+
+	/**
+	 * The number of infinite and NaN values.
+	 */
+	private long nonFiniteCount;
+
+	/**
+	 * The mean of the finite values.
+	 */
+	private double mean;
+
+	/**
+	 * The sum of squared differences from the mean.
+	 */
+	private double squares;
+
+	/**
+	 * The smallest finite value.
+	 */
+	private double min = Double.POSITIVE_INFINITY;
+
+	/**
+	 * The largest finite value.
+	 */
+	private double max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * The sketch of the finite values.
+	 */
+	private final QuantileSketch sketch;
+
+	/**
+	 * Constructs empty statistics with quantiles of the default accuracy.
+	 */
+	public RunningStatistics() {
+		this(QuantileSketch.DEFAULT_ACCURACY);
+	}
+
+	/**
+	 * Constructs empty statistics.
+	 *
+	 * @param accuracy The relative accuracy of the quantiles.
+	 * @throws IllegalArgumentException If the accuracy is not between 0 and 1.
+	 */
+	public RunningStatistics(double accuracy) {
+		this.sketch = new QuantileSketch(accuracy);
+	}
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value The value to record.
+	 */
+	public void record(double value) {
+		if(!Double.isFinite(value)) {
+			nonFiniteCount++;
+			return;
+		}
+		count++;
+		double delta = value - mean;
+		mean += delta / count;
+		squares += delta * (value - mean);
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		sketch.add(value);
+	}
+
+	/**
+	 * Adds all values recorded by other statistics to these.
+	 *
+	 * @param other The statistics to merge.
+	 * @throws IllegalArgumentException If the quantile accuracies differ.
+	 */
+	public void merge(RunningStatistics other) {
+		sketch.merge(other.sketch);
+		nonFiniteCount += other.nonFiniteCount;
+		if(other.count == 0) {
+			return;
+		}
+		long total = count + other.count;
+		double delta = other.mean - mean;
+		mean += delta * other.count / total;
+		squares += other.squares + delta * delta * ((double) count * other.count / total);
+		count = total;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Removes all values, keeping the allocated sketch.
+	 */
+	public void clear() {
+		count = 0;
+		nonFiniteCount = 0;
+		mean = 0.0;
+		squares = 0.0;
+		min = Double.POSITIVE_INFINITY;
+		max = Double.NEGATIVE_INFINITY;
+		sketch.clear();
+	}
+
+	/**
+	 * Gets the number of finite values recorded.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the number of infinite and NaN values recorded.
+	 *
+	 * @return the count of values left out of the statistics
+	 */
+	public long getNonFiniteCount() {
+		return nonFiniteCount;
+	}
+
+	/**
+	 * Gets the mean of the finite values.
+	 *
+	 * @return the mean, or NaN if there are none
+	 */
+	public double getMean() {
+		return count == 0 ? Double.NaN : mean;
+	}
+
+	/**
+	 * Gets the population variance of the finite values.
+	 *
+	 * @return the variance, or NaN if there are none
+	 */
+	public double getVariance() {
+		return count == 0 ? Double.NaN : squares / count;
+	}
+
+	/**
+	 * Gets the population standard deviation of the finite values.
+	 *
+	 * @return the standard deviation, or NaN if there are none
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+
+	/**
+	 * Gets the smallest finite value.
+	 *
+	 * @return the minimum, or NaN if there are none
+	 */
+	public double getMin() {
+		return count == 0 ? Double.NaN : min;
+	}
+
+	/**
+	 * Gets the largest finite value.
+	 *
+	 * @return the maximum, or NaN if there are none
+	 */
+	public double getMax() {
+		return count == 0 ? Double.NaN : max;
+	}
+
+	/**
+	 * Gets a quantile of the finite values, within the accuracy of the sketch.
+	 *
+	 * @param quantile The quantile, from 0 for the minimum to 1 for the maximum.
+	 * @return The value at the quantile, or NaN if there are none.
+	 * @throws IllegalArgumentException If the quantile is not between 0 and 1.
+	 */
+	public double getQuantile(double quantile) {
+		return sketch.quantile(quantile);
+	}
+}
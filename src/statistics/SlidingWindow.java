@@ -0,0 +1,332 @@
+package statistics;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Statistics over the last values of a stream, such as the last results of one calculator.
+ * Each new value pushes the oldest one out of the window, and every statistic is kept up to date
+ * in O(1) amortized time instead of being recomputed from the window:
+ * <ul>
+ * <li>the mean and variance with Welford's update, applied forwards for the new value
+ * and backwards for the value leaving the window,</li>
+ * <li>the minimum and maximum with monotonic deques, which only hold the values
+ * that can still become the minimum or maximum before they leave the window,</li>
+ * <li>quantiles with a {@link QuantileSketch}, which supports removal.</li>
+ * </ul>
+ * Infinite and NaN values take their place in the window but are left out of the statistics.
+ * A window is used by one thread at a time; see {@link WindowedStatistics} for statistics
+ * recorded from many threads.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class SlidingWindow implements DoubleConsumer {
+	/**
+	 * The values in the window, by position modulo the window length.
+	 */
+	private final double[] values;
+
+	/**
+	 * The positions of the values that can still become the minimum, with increasing values.
+	 */
+	private final Deque minimums;
+
+	/**
+	 * The positions of the values that can still become the maximum, with decreasing values.
+	 */
+	private final Deque maximums;
+
+	/**
+	 * The sketch of the finite values in the window.
+	 */
+	private final QuantileSketch sketch;
+
+	/**
+	 * The number of values recorded since the window was created.
+	 */
+	private long recorded;
+
+	/**
+	 * The number of finite values in the window.
+	 */
+	private long count;
+
+	/**
+	 * The mean of the finite values in the window.
+	 */
+	private double mean;
+
+	/**
+	 * The sum of squared differences from the mean.
+	 */
+	private double squares;
+
+	/**
+	 * Constructs an empty window with quantiles of the default accuracy.
+	 *
+	 * @param length The number of values in a full window.
+	 * @throws IllegalArgumentException If the length is not positive.
+	 */
+	public SlidingWindow(int length) {
+		this(length, QuantileSketch.DEFAULT_ACCURACY);
+	}
+
+	/**
+	 * Constructs an empty window.
+	 *
+	 * @param length The number of values in a full window.
+	 * @param accuracy The relative accuracy of the quantiles.
+	 * @throws IllegalArgumentException If the length is not positive or the accuracy is not between 0 and 1.
+	 */
+	public SlidingWindow(int length, double accuracy) {
+		if(length <= 0) {
+			throw new IllegalArgumentException("Window length must be positive");
+		}
+		this.values = new double[length];
+		this.minimums = new Deque(length);
+		this.maximums = new Deque(length);
+		this.sketch = new QuantileSketch(accuracy);
+	}
+
+	/**
+	 * Records a value, pushing the oldest value out of a full window.
+	 *
+	 * @param value The value to record.
+	 */
+	@Override
+	public void accept(double value) {
+		record(value);
+	}
+
+	/**
+	 * Records a value, pushing the oldest value out of a full window.
+	 *
+	 * @param value The value to record.
+	 */
+	public void record(double value) {
+		int length = values.length;
+		int slot = (int) (recorded % length);
+		if(recorded >= length) {
+			long leaving = recorded - length;
+			minimums.expire(leaving);
+			maximums.expire(leaving);
+			remove(values[slot]);
+		}
+		values[slot] = value;
+		if(Double.isFinite(value)) {
+			count++;
+			double delta = value - mean;
+			mean += delta / count;
+			squares += delta * (value - mean);
+			sketch.add(value);
+			while(!minimums.isEmpty() && valueAt(minimums.last()) >= value) {
+				minimums.removeLast();
+			}
+			minimums.addLast(recorded);
+			while(!maximums.isEmpty() && valueAt(maximums.last()) <= value) {
+				maximums.removeLast();
+			}
+			maximums.addLast(recorded);
+		}
+		recorded++;
+	}
+
+	/**
+	 * Gets the number of values in a full window.
+	 *
+	 * @return the window length
+	 */
+	public int getLength() {
+		return values.length;
+	}
+
+	/**
+	 * Gets the number of values in the window, including infinite and NaN values.
+	 *
+	 * @return the size of the window
+	 */
+	public int getSize() {
+		return (int) Math.min(recorded, values.length);
+	}
+
+	/**
+	 * Gets the number of finite values in the window.
+	 *
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the mean of the finite values in the window.
+	 *
+	 * @return the mean, or NaN if there are none
+	 */
+	public double getMean() {
+		return count == 0 ? Double.NaN : mean;
+	}
+
+	/**
+	 * Gets the population variance of the finite values in the window.
+	 *
+	 * @return the variance, or NaN if there are none
+	 */
+	public double getVariance() {
+		return count == 0 ? Double.NaN : squares / count;
+	}
+
+	/**
+	 * Gets the population standard deviation of the finite values in the window.
+	 *
+	 * @return the standard deviation, or NaN if there are none
+	 */
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+
+	/**
+	 * Gets the smallest finite value in the window.
+	 *
+	 * @return the minimum, or NaN if there are none
+	 */
+	public double getMin() {
+		return minimums.isEmpty() ? Double.NaN : valueAt(minimums.first());
+	}
+
+	/**
+	 * Gets the largest finite value in the window.
+	 *
+	 * @return the maximum, or NaN if there are none
+	 */
+	public double getMax() {
+		return maximums.isEmpty() ? Double.NaN : valueAt(maximums.first());
+	}
+
+	/**
+	 * Gets a quantile of the finite values in the window, within the accuracy of the sketch.
+	 *
+	 * @param quantile The quantile, from 0 for the minimum to 1 for the maximum.
+	 * @return The value at the quantile, or NaN if there are none.
+	 * @throws IllegalArgumentException If the quantile is not between 0 and 1.
+	 */
+	public double getQuantile(double quantile) {
+		return sketch.quantile(quantile);
+	}
+
+	/**
+	 * Takes a value leaving the window out of the statistics.
+	 *
+	 * @param value The value leaving the window.
+	 */
+	private void remove(double value) {
+		if(!Double.isFinite(value)) {
+			return;
+		}
+		sketch.remove(value);
+		if(--count == 0) {
+			mean = 0.0;
+			squares = 0.0;
+			return;
+		}
+		double delta = value - mean;
+		mean -= delta / count;
+		squares = Math.max(0.0, squares - delta * (value - mean));
+	}
+
+	/**
+	 * Gets the value recorded at a position that is still in the window.
+	 *
+	 * @param position The position of the value.
+	 * @return The value.
+	 */
+	private double valueAt(long position) {
+		return values[(int) (position % values.length)];
+	}
+
+	/**
+	 * A double-ended queue of positions in a fixed ring, which never holds more positions than the window.
+	 */
+	private static final class Deque {
+		/**
+		 * The positions in the queue.
+		 */
+		private final long[] positions;
+
+		/**
+		 * The index of the first position.
+		 */
+		private int head;
+
+		/**
+		 * The number of positions in the queue.
+		 */
+		private int size;
+
+		/**
+		 * Constructs an empty queue.
+		 *
+		 * @param capacity The largest number of positions.
+		 */
+		Deque(int capacity) {
+			this.positions = new long[capacity];
+		}
+
+		/**
+		 * Checks if the queue is empty.
+		 *
+		 * @return True if the queue is empty, false otherwise.
+		 */
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * Gets the first position.
+		 *
+		 * @return the first position
+		 */
+		long first() {
+			return positions[head];
+		}
+
+		/**
+		 * Gets the last position.
+		 *
+		 * @return the last position
+		 */
+		long last() {
+			return positions[(head + size - 1) % positions.length];
+		}
+
+		/**
+		 * Appends a position.
+		 *
+		 * @param position The position.
+		 */
+		void addLast(long position) {
+			positions[(head + size) % positions.length] = position;
+			size++;
+		}
+
+		/**
+		 * Removes the last position.
+		 */
+		void removeLast() {
+			size--;
+		}
+
+		/**
+		 * Removes the first position if it is the position leaving the window.
+		 *
+		 * @param leaving The position leaving the window.
+		 */
+		void expire(long leaving) {
+			if(size > 0 && positions[head] == leaving) {
+				head = (head + 1) % positions.length;
+				size--;
+			}
+		}
+	}
+}
@@ -0,0 +1,320 @@
+package statistics;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Statistics of values recorded from many threads over tumbling and sliding time windows,
+ * for example every result of every calculator when it is set as their result listener.
+ * Time is divided into panes of a fixed length. The tumbling window is the current pane,
+ * and the sliding window is made of the current pane and the panes before it,
+ * so it slides by one pane at a time.
+ * Every thread records into its own accumulator, which keeps one {@link RunningStatistics}
+ * per pane and starts a new one when time moves on, so recording is O(1) amortized
+ * and takes no lock. Reading a window swaps each pane in the window for an empty one,
+ * waits until the owning thread is not in the middle of recording into the old one,
+ * and merges it into panes kept by the readers; the recording threads never wait for a reader.
+ * An accumulator is kept for every thread that ever recorded, so the statistics are meant
+ * to be recorded from pooled threads.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class WindowedStatistics implements DoubleConsumer {
+	/**
+	 * The length of a pane in milliseconds.
+	 */
+	private final long paneMillis;
+
+	/**
+	 * The number of panes in the sliding window.
+	 */
+	private final int panes;
+
+	/**
+	 * The relative accuracy of the quantiles.
+	 */
+	private final double accuracy;
+
+	/**
+	 * The clock in milliseconds.
+	 */
+	private final LongSupplier clock;
+
+	/**
+	 * The accumulators of all threads that recorded values.
+	 */
+	private final Queue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The accumulator of the current thread.
+	 */
+	private final ThreadLocal<Accumulator> local = ThreadLocal.withInitial(this::register);
+
+	/**
+	 * Constructs windowed statistics on the system clock with quantiles of the default accuracy.
+	 *
+	 * @param paneMillis The length of a pane, which is the tumbling window, in milliseconds.
+	 * @param panes The number of panes in the sliding window.
+	 * @throws IllegalArgumentException If the pane length or the number of panes is not positive.
+	 */
+	public WindowedStatistics(long paneMillis, int panes) {
+		this(paneMillis, panes, QuantileSketch.DEFAULT_ACCURACY, System::currentTimeMillis);
+	}
+
+	/**
+	 * Constructs windowed statistics.
+	 *
+	 * @param paneMillis The length of a pane, which is the tumbling window, in milliseconds.
+	 * @param panes The number of panes in the sliding window.
+	 * @param accuracy The relative accuracy of the quantiles.
+	 * @param clock The clock in milliseconds.
+	 * @throws IllegalArgumentException If the pane length or the number of panes is not positive,
+	 * or the accuracy is not between 0 and 1.
+	 */
+	public WindowedStatistics(long paneMillis, int panes, double accuracy, LongSupplier clock) {
+		if(paneMillis <= 0) {
+			throw new IllegalArgumentException("Pane length must be positive");
+		}
+		if(panes <= 0) {
+			throw new IllegalArgumentException("Number of panes must be positive");
+		}
+		if(!(accuracy > 0.0 && accuracy < 1.0)) {
+			throw new IllegalArgumentException("Accuracy must be between 0 and 1");
+		}
+		this.paneMillis = paneMillis;
+		this.panes = panes;
+		this.accuracy = accuracy;
+		this.clock = clock;
+	}
+
+	/**
+	 * Records a value in the current pane.
+	 *
+	 * @param value The value to record.
+	 */
+	@Override
+	public void accept(double value) {
+		record(value);
+	}
+
+	/**
+	 * Records a value in the current pane.
+	 *
+	 * @param value The value to record.
+	 */
+	public void record(double value) {
+		local.get().record(currentPane(), value);
+	}
+
+	/**
+	 * Gets the statistics of the tumbling window, which is the current pane.
+	 *
+	 * @return New statistics of the values recorded in the current pane.
+	 */
+	public RunningStatistics tumbling() {
+		return window(1);
+	}
+
+	/**
+	 * Gets the statistics of the sliding window, which is made of all panes.
+	 *
+	 * @return New statistics of the values recorded in the sliding window.
+	 */
+	public RunningStatistics sliding() {
+		return window(panes);
+	}
+
+	/**
+	 * Gets the statistics of the last panes, ending with the current one.
+	 *
+	 * @param count The number of panes.
+	 * @return New statistics of the values recorded in the panes.
+	 * @throws IllegalArgumentException If the number of panes is not between 1 and the number of panes of the sliding window.
+	 */
+	public RunningStatistics window(int count) {
+		if(count <= 0 || count > panes) {
+			throw new IllegalArgumentException("Number of panes out of range");
+		}
+		long last = currentPane();
+		RunningStatistics statistics = new RunningStatistics(accuracy);
+		for(Accumulator accumulator : accumulators) {
+			accumulator.mergeInto(statistics, last - count + 1, last);
+		}
+		return statistics;
+	}
+
+	/**
+	 * Gets the number of the current pane.
+	 *
+	 * @return the pane number
+	 */
+	private long currentPane() {
+		return Math.floorDiv(clock.getAsLong(), paneMillis);
+	}
+
+	/**
+	 * Creates and registers the accumulator of the current thread.
+	 *
+	 * @return The accumulator.
+	 */
+	private Accumulator register() {
+		Accumulator accumulator = new Accumulator(panes, accuracy);
+		accumulators.add(accumulator);
+		return accumulator;
+	}
+
+	/**
+	 * The statistics of the values recorded in one pane.
+	 */
+	private static final class Pane {
+		/**
+		 * The number of the pane.
+		 */
+		final long number;
+
+		/**
+		 * The statistics of the values.
+		 */
+		final RunningStatistics statistics;
+
+		/**
+		 * Constructs an empty pane.
+		 *
+		 * @param number The number of the pane.
+		 * @param accuracy The relative accuracy of the quantiles.
+		 */
+		Pane(long number, double accuracy) {
+			this.number = number;
+			this.statistics = new RunningStatistics(accuracy);
+		}
+	}
+
+	/**
+	 * The statistics of the panes recorded by one thread.
+	 * Only the owning thread records into the active panes. A reader detaches an active pane
+	 * by swapping in an empty one, and waits for the sequence to show that the owner is not
+	 * recording into it, before it merges the pane into the collected panes.
+	 * The collected panes are guarded by the lock of the accumulator, which only readers take.
+	 */
+	private static final class Accumulator {
+		/**
+		 * The relative accuracy of the quantiles.
+		 */
+		private final double accuracy;
+
+		/**
+		 * The pane each slot records into.
+		 */
+		private final AtomicReferenceArray<Pane> active;
+
+		/**
+		 * The values detached from the active panes by readers, per slot.
+		 */
+		private final Pane[] collected;
+
+		/**
+		 * Incremented by the owning thread before and after recording a value,
+		 * so it is odd while a value is being recorded.
+		 */
+		private volatile long sequence;
+
+		/**
+		 * Constructs an accumulator with empty panes.
+		 *
+		 * @param panes The number of panes.
+		 * @param accuracy The relative accuracy of the quantiles.
+		 */
+		Accumulator(int panes, double accuracy) {
+			this.accuracy = accuracy;
+			this.active = new AtomicReferenceArray<>(panes);
+			this.collected = new Pane[panes];
+			for(int i = 0; i < panes; i++) {
+				active.set(i, new Pane(Long.MIN_VALUE, accuracy));
+			}
+		}
+
+		/**
+		 * Records a value in a pane, replacing the pane of its slot if that is older.
+		 * A value for a pane older than the one in its slot, after the clock went back, is dropped.
+		 * Only called by the owning thread.
+		 *
+		 * @param number The number of the pane.
+		 * @param value The value.
+		 */
+		void record(long number, double value) {
+			long start = sequence;
+			sequence = start + 1;
+			try {
+				int slot = (int) Math.floorMod(number, (long) collected.length);
+				Pane pane = active.get(slot);
+				if(pane.number < number) {
+					pane = new Pane(number, accuracy);
+					active.set(slot, pane);
+				} else if(pane.number > number) {
+					return;
+				}
+				pane.statistics.record(value);
+			} finally {
+				sequence = start + 2;
+			}
+		}
+
+		/**
+		 * Merges the panes in a range into statistics.
+		 *
+		 * @param statistics The statistics that receive the panes.
+		 * @param first The number of the first pane.
+		 * @param last The number of the last pane.
+		 */
+		synchronized void mergeInto(RunningStatistics statistics, long first, long last) {
+			for(int slot = 0; slot < collected.length; slot++) {
+				Pane pane = active.get(slot);
+				while(pane.number >= first && pane.number <= last
+						&& !active.compareAndSet(slot, pane, new Pane(pane.number, accuracy))) {
+					pane = active.get(slot);
+				}
+				if(pane.number >= first && pane.number <= last) {
+					awaitRecorded();
+					collect(slot, pane);
+				}
+				Pane kept = collected[slot];
+				if(kept != null && kept.number >= first && kept.number <= last) {
+					statistics.merge(kept.statistics);
+				}
+			}
+		}
+
+		/**
+		 * Waits until the owning thread has finished the value it was recording, if any.
+		 * A value recorded after a pane was detached goes into the pane that replaced it.
+		 */
+		private void awaitRecorded() {
+			long observed = sequence;
+			if((observed & 1) != 0) {
+				while(sequence == observed) {
+					Thread.onSpinWait();
+				}
+			}
+		}
+
+		/**
+		 * Adds a detached pane to the collected pane of its slot.
+		 *
+		 * @param slot The slot.
+		 * @param pane The detached pane.
+		 */
+		private void collect(int slot, Pane pane) {
+			Pane kept = collected[slot];
+			if(kept == null || kept.number < pane.number) {
+				collected[slot] = pane;
+			} else if(kept.number == pane.number) {
+				kept.statistics.merge(pane.statistics);
+			}
+		}
+	}
+}
@@ -0,0 +1,268 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import exceptions.DivisionByZeroException;
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link BatchCalculator} class.
+ * The results are compared with a separate calculator per element.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class BatchCalculatorTest {
+	/**
+	 * Current values used by the tests, more than one bitmap word long.
+	 */
+	private static final double[] VALUES = values();
+
+	/**
+	 * Builds the current values used by the tests.
+	 *
+	 * @return The current values.
+	 */
+	private static double[] values() {
+		double[] values = new double[100];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = (i - 30) * 0.75;
+		}
+		return values;
+	}
+
+	/**
+	 * Tests the arithmetic operations with a constant operand against the {@link Calculator} class.
+	 *
+	 * @param operand The value to operate with.
+	 * @param operator The arithmetic operator.
+	 * @throws NotSupportedOperationException
+	 * @throws DivisionByZeroException
+	 */
+	@ParameterizedTest
+	@MethodSource("provideConstantOperandTestData")
+	void testCalculateConstantOperand(double operand, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		double[] results = new double[VALUES.length];
+		long[] divisionByZero = new long[BatchCalculator.bitmapLength(VALUES.length)];
+		BatchCalculator.calculate(VALUES, operand, operator, results, divisionByZero);
+		for(int i = 0; i < VALUES.length; i++) {
+			Calculator calculator = new Calculator(0);
+			calculator.setCurrentValue(VALUES[i]);
+			calculator.calculate(operand, operator);
+			assertThat(results[i], is(calculator.getCurrentValue()));
+		}
+		assertThat(divisionByZero, is(new long[] {0L, 0L}));
+	}
+
+	/**
+	 * Provides a stream of test data for testing operations with a constant operand.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideConstantOperandTestData() {
+		return Stream.of(
+				Arguments.of(2.5, '+'),
+				Arguments.of(-1.25, '-'),
+				Arguments.of(3.0, '*'),
+				Arguments.of(-0.4, '/')
+		);
+	}
+
+	/**
+	 * Tests the arithmetic operations with an operand per element, including divisions by zero.
+	 *
+	 * @param operator The arithmetic operator.
+	 * @throws NotSupportedOperationException
+	 */
+	@ParameterizedTest
+	@MethodSource("provideOperatorTestData")
+	void testCalculatePerLaneOperand(char operator) throws NotSupportedOperationException {
+		double[] operands = new double[VALUES.length];
+		for(int i = 0; i < operands.length; i++) {
+			operands[i] = i % 7 == 0 ? 0.0 : i * 0.5;
+		}
+		double[] results = new double[VALUES.length];
+		long[] divisionByZero = new long[BatchCalculator.bitmapLength(VALUES.length)];
+		BatchCalculator.calculate(VALUES, operands, operator, results, divisionByZero);
+		for(int i = 0; i < VALUES.length; i++) {
+			Calculator calculator = new Calculator(0);
+			calculator.setCurrentValue(VALUES[i]);
+			boolean masked;
+			try {
+				calculator.calculate(operands[i], operator);
+				masked = false;
+			} catch(DivisionByZeroException e) {
+				masked = true;
+			}
+			assertThat(results[i], is(calculator.getCurrentValue()));
+			assertThat((divisionByZero[i / 64] >>> (i % 64) & 1L) == 1L, is(masked));
+		}
+	}
+
+	/**
+	 * Provides a stream of test data with the supported operators.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideOperatorTestData() {
+		return Stream.of(
+				Arguments.of('+'),
+				Arguments.of('-'),
+				Arguments.of('*'),
+				Arguments.of('/')
+		);
+	}
+
+	/**
+	 * Tests that dividing by a constant zero masks every lane and leaves the values unchanged.
+	 *
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	void testDivisionByConstantZero() throws NotSupportedOperationException {
+		double[] results = new double[VALUES.length];
+		long[] divisionByZero = new long[BatchCalculator.bitmapLength(VALUES.length)];
+		BatchCalculator.calculate(VALUES, -0.0, '/', results, divisionByZero);
+		assertThat(results, is(VALUES));
+		assertThat(divisionByZero, is(new long[] {-1L, (1L << 36) - 1}));
+	}
+
+	/**
+	 * Tests the power operations against the {@link CalculatorAdvanced} class.
+	 *
+	 * @param action The character representing the power.
+	 * @throws NotSupportedOperationException
+	 * @throws NumberNotInAreaException
+	 */
+	@ParameterizedTest
+	@MethodSource("providePowerTestData")
+	void testPower(char action) throws NotSupportedOperationException, NumberNotInAreaException {
+		double[] results = VALUES.clone();
+		long[] negative = new long[BatchCalculator.bitmapLength(VALUES.length)];
+		BatchCalculator.power(results, action, results, negative);
+		for(int i = 0; i < VALUES.length; i++) {
+			CalculatorAdvanced calculatorAdvanced = new CalculatorAdvanced(0);
+			calculatorAdvanced.setCurrentValue(VALUES[i]);
+			boolean masked;
+			try {
+				calculatorAdvanced.calculateAdvanced(action);
+				masked = false;
+			} catch(IllegalArgumentException e) {
+				masked = true;
+			}
+			assertThat(results[i], is(calculatorAdvanced.getCurrentValue()));
+			assertThat((negative[i / 64] >>> (i % 64) & 1L) == 1L, is(masked));
+		}
+	}
+
+	/**
+	 * Provides a stream of test data with the supported powers.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> providePowerTestData() {
+		return Stream.of(
+				Arguments.of('0'),
+				Arguments.of('1'),
+				Arguments.of('2'),
+				Arguments.of('5'),
+				Arguments.of('9')
+		);
+	}
+
+	/**
+	 * Tests that unsupported operators and actions throw a {@link NotSupportedOperationException}.
+	 */
+	@Test
+	void testNotSupportedOperation() {
+		double[] results = new double[VALUES.length];
+		long[] bitmap = new long[BatchCalculator.bitmapLength(VALUES.length)];
+		NotSupportedOperationException operation = assertThrows(NotSupportedOperationException.class,
+				() -> BatchCalculator.calculate(VALUES, 1.0, '%', results, bitmap));
+		assertThat("Messages should match", operation.getMessage(), is("Operation not supported"));
+		NotSupportedOperationException action = assertThrows(NotSupportedOperationException.class,
+				() -> BatchCalculator.power(VALUES, '!', results, bitmap));
+		assertThat("Messages should match", action.getMessage(), is("Action not supported"));
+	}
+
+	/**
+	 * Tests that a bitmap too short for the values is rejected.
+	 */
+	@Test
+	void testBitmapTooShort() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> BatchCalculator.calculate(VALUES, 1.0, '+', new double[VALUES.length], new long[1]));
+		assertThat("Messages should match", exception.getMessage(), is("Bitmap too short"));
+	}
+
+	/**
+	 * Tests that the Vector API kernel gives the same results and bitmaps as the scalar kernel,
+	 * on a length that leaves a partial vector and on special values.
+	 * The test is skipped when the Vector API kernel is not loaded.
+	 *
+	 * @param operator The arithmetic operator, or a digit for a power.
+	 * @throws NotSupportedOperationException
+	 */
+	@ParameterizedTest
+	@MethodSource("provideKernelTestData")
+	void testKernelMatchesScalar(char operator) throws NotSupportedOperationException {
+		Assumptions.assumeTrue(BatchCalculator.isVectorized(), "Vector API kernel not loaded");
+		Random random = new Random(operator);
+		double[] special = {0.0, -0.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+				Double.MIN_VALUE, -Double.MAX_VALUE};
+		double[] values = new double[1003];
+		double[] operands = new double[values.length];
+		for(int i = 0; i < values.length; i++) {
+			values[i] = i % 17 == 0 ? special[i % special.length] : random.nextGaussian() * 100;
+			operands[i] = i % 11 == 0 ? special[i % special.length] : random.nextGaussian() * 100;
+		}
+		double[] expected = new double[values.length];
+		double[] actual = new double[values.length];
+		long[] expectedBitmap = new long[BatchCalculator.bitmapLength(values.length)];
+		long[] actualBitmap = new long[expectedBitmap.length];
+		if(operator >= '0' && operator <= '9') {
+			BatchCalculator.power(BatchCalculator.SCALAR, values, operator, expected, expectedBitmap);
+			BatchCalculator.power(BatchCalculator.KERNEL, values, operator, actual, actualBitmap);
+		} else {
+			BatchCalculator.calculate(BatchCalculator.SCALAR, values, operands, operator, expected, expectedBitmap);
+			BatchCalculator.calculate(BatchCalculator.KERNEL, values, operands, operator, actual, actualBitmap);
+			assertThat(actual, is(expected));
+			assertThat(actualBitmap, is(expectedBitmap));
+			BatchCalculator.calculate(BatchCalculator.SCALAR, values, 0.75, operator, expected, expectedBitmap);
+			BatchCalculator.calculate(BatchCalculator.KERNEL, values, 0.75, operator, actual, actualBitmap);
+		}
+		assertThat(actual, is(expected));
+		assertThat(actualBitmap, is(expectedBitmap));
+	}
+
+	/**
+	 * Provides a stream of test data with every operator and some powers.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideKernelTestData() {
+		return Stream.of(
+				Arguments.of('+'),
+				Arguments.of('-'),
+				Arguments.of('*'),
+				Arguments.of('/'),
+				Arguments.of('0'),
+				Arguments.of('3'),
+				Arguments.of('9')
+		);
+	}
+}
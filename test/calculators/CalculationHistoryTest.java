@@ -0,0 +1,184 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import exceptions.DivisionByZeroException;
+import exceptions.NotSupportedOperationException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link CalculationHistory} class
+ * and the undo and redo operations of the {@link Calculator} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class CalculationHistoryTest {
+	/**
+	 * Instance of Calculator used for performing calculations with history.
+	 */
+	private Calculator calculator;
+
+	/**
+	 * Set up method that runs before each test.
+	 * This method is used to initialize the calculator instance for each test.
+	 *
+	 * @throws Exception if an error occurs during setup
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+		calculator = new Calculator(3);
+	}
+
+	/**
+	 * Tests that undo and redo move through the values produced by calculations.
+	 *
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	void testUndoRedo() throws DivisionByZeroException, NotSupportedOperationException {
+		calculator.calculate(5.0, '+');
+		calculator.calculate(2.0, '*');
+		calculator.undo();
+		assertThat(calculator.getCurrentValue(), is(5.0));
+		calculator.undo();
+		assertThat(calculator.getCurrentValue(), is(0.0));
+		assertThat(calculator.canUndo(), is(false));
+		calculator.redo();
+		calculator.redo();
+		assertThat(calculator.getCurrentValue(), is(10.0));
+		assertThat(calculator.canRedo(), is(false));
+	}
+
+	/**
+	 * Tests that a new calculation after undo discards the redo values.
+	 *
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	void testCalculateAfterUndoDiscardsRedo() throws DivisionByZeroException, NotSupportedOperationException {
+		calculator.calculate(5.0, '+');
+		calculator.calculate(2.0, '*');
+		calculator.undo();
+		calculator.calculate(1.0, '-');
+		assertThat(calculator.canRedo(), is(false));
+		assertThat(calculator.getCurrentValue(), is(4.0));
+		calculator.undo();
+		assertThat(calculator.getCurrentValue(), is(5.0));
+	}
+
+	/**
+	 * Tests that the oldest values are overwritten once the history depth is reached.
+	 *
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	void testHistoryIsBounded() throws DivisionByZeroException, NotSupportedOperationException {
+		for(int i = 0; i < 10; i++) {
+			calculator.calculate(1.0, '+');
+		}
+		assertThat(calculator.getHistorySize(), is(4));
+		calculator.jumpTo(0);
+		assertThat(calculator.getCurrentValue(), is(7.0));
+		assertThat(calculator.canUndo(), is(false));
+		calculator.jumpTo(3);
+		assertThat(calculator.getCurrentValue(), is(10.0));
+	}
+
+	/**
+	 * Tests jumping to an arbitrary point in the history.
+	 *
+	 * @param index The position to jump to.
+	 * @param result The expected current value after the jump.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideJumpToTestData")
+	void testJumpTo(int index, Double result) {
+		calculator.setCurrentValue(1.0);
+		calculator.setCurrentValue(2.0);
+		calculator.setCurrentValue(3.0);
+		calculator.jumpTo(index);
+		assertThat(calculator.getCurrentValue(), is(result));
+		assertThat(calculator.getHistoryPosition(), is(index));
+		assertThat(calculator.getHistoryValue(index), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing jumps in the history.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideJumpToTestData() {
+		return Stream.of(
+				Arguments.of(0, 0.0),
+				Arguments.of(1, 1.0),
+				Arguments.of(2, 2.0),
+				Arguments.of(3, 3.0)
+		);
+	}
+
+	/**
+	 * Tests that jumping outside of the history throws an {@link IllegalArgumentException}.
+	 *
+	 * @param index The position to jump to.
+	 * @param message The expected exception message.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideJumpToOutOfRangeTestData")
+	void testJumpToOutOfRange(int index, String message) {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> calculator.jumpTo(index));
+		assertThat("Messages should match", exception.getMessage(), is(message));
+		exception = assertThrows(IllegalArgumentException.class, () -> calculator.getHistoryValue(index));
+		assertThat("Messages should match", exception.getMessage(), is(message));
+		assertThat(calculator.getHistoryPosition(), is(0));
+	}
+
+	/**
+	 * Provides a stream of test data for testing jumps outside of the history.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideJumpToOutOfRangeTestData() {
+		return Stream.of(
+				Arguments.of(-1, "History index out of range"),
+				Arguments.of(1, "History index out of range"),
+				Arguments.of(Integer.MAX_VALUE, "History index out of range")
+		);
+	}
+
+	/**
+	 * Tests that undo and redo on an exhausted history throw an {@link IllegalStateException}.
+	 */
+	@Test
+	void testNothingToUndoOrRedo() {
+		IllegalStateException undo = assertThrows(IllegalStateException.class, () -> calculator.undo());
+		assertThat("Messages should match", undo.getMessage(), is("Nothing to undo"));
+		IllegalStateException redo = assertThrows(IllegalStateException.class, () -> calculator.redo());
+		assertThat("Messages should match", redo.getMessage(), is("Nothing to redo"));
+	}
+
+	/**
+	 * Tests that a negative history depth is rejected.
+	 */
+	@Test
+	void testNegativeDepth() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> new CalculationHistory(-1));
+		assertThat("Messages should match", exception.getMessage(), is("Negative history depth"));
+	}
+}
@@ -2,6 +2,7 @@ package calculators;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
@@ -15,7 +16,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import exceptions.NotSupportedOperationException;
 import exceptions.NumberNotInAreaException;
+import exceptions.OperationCancelledException;
+import extensions.AllocationBudget;
+import extensions.AllocationMeter;
 
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -97,20 +102,25 @@ class CalculatorAdvancedTest {
 	 * Tests the calculator's advanced operations using parameterized test data.
      * This method uses various sets of input data provided by the {@link #provideCalculateAdvancedTestData()} method
      * to verify that the calculator correctly calculates the expected result based on a given operator
-     * and value.
+     * and value, and that the calculation does not allocate.
      * 
 	 * @param value The start value for currentValue.
 	 * @param result The expected result of the calculation.
 	 * @param action The action to perform.
-	 * @throws NumberNotInAreaException
-	 * @throws NotSupportedOperationException
+	 * @param meter The meter measuring the allocations of the calculation.
+	 * @throws Exception
 	 */
 	@ParameterizedTest
 	@MethodSource("provideCalculateAdvancedTestData")
-	void testCalculateAdvanced(Double value, Double result, char action) throws NumberNotInAreaException, NotSupportedOperationException {
+	@AllocationBudget(bytes = 0)
+	void testCalculateAdvanced(Double value, Double result, char action, AllocationMeter meter) throws Exception {
 		calculatorAdvanced.setCurrentValue(value);
 		calculatorAdvanced.calculateAdvanced(action);
 		assertThat(result, is(calculatorAdvanced.getCurrentValue()));
+		meter.measure(() -> {
+			calculatorAdvanced.setCurrentValue(value);
+			calculatorAdvanced.calculateAdvanced(action);
+		});
 	}
 	
 	/**
@@ -131,19 +141,55 @@ class CalculatorAdvancedTest {
 				Arguments.of(5.0, 1.0, '0'),
 				Arguments.of(1.0, 1.0, '9'),
 				Arguments.of(5.0, 120.0, '!'),
-				Arguments.of(0.1, 1.0, '!'),
-				Arguments.of(9.9, 362880.0, '!'),
 				Arguments.of(10000.0, 100000000.0, '2'),
 		        Arguments.of(0.0005, 0.00000025, '2'), 
-		        Arguments.of(0.0001, 1.0, '!') ,
 		        Arguments.of(0.0001, 0.00000001, '2'),
 		        Arguments.of(Double.MIN_VALUE, 0.0, '2'),              
-		        Arguments.of(-0.0, 1.0, '!'),                         
-		        Arguments.of(0.999999, 1.0, '!')          
+		        Arguments.of(-0.0, 1.0, '!')
 
 		);
 	}
 	
+	/**
+	 * Tests the factorial of non-integer values using parameterized test data.
+	 * This method uses the data provided by the {@link #provideRealFactorialTestData()} method
+	 * to verify that the factorial is the gamma function of the value plus one, and is not truncated.
+	 * 
+	 * @param value The start value for currentValue.
+	 * @param result The expected result of the calculation.
+	 * @param meter The meter measuring the allocations of the calculation.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideRealFactorialTestData")
+	@AllocationBudget(bytes = 0)
+	void testRealFactorial(Double value, Double result, AllocationMeter meter) throws Exception {
+		calculatorAdvanced.setCurrentValue(value);
+		calculatorAdvanced.calculateAdvanced('!');
+		assertThat(calculatorAdvanced.getCurrentValue(), closeTo(result, Math.abs(result) * 1e-13));
+		meter.measure(() -> {
+			calculatorAdvanced.setCurrentValue(value);
+			calculatorAdvanced.calculateAdvanced('!');
+		});
+	}
+	
+	/**
+	 * Provides a stream of test data for testing the factorial of non-integer values.
+	 * 
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideRealFactorialTestData() {
+		return Stream.of(
+				Arguments.of(0.1, 0.951350769866873),
+				Arguments.of(9.9, 2869690.2680170853),
+				Arguments.of(0.0001, 0.9999422883231623),
+				Arguments.of(0.999999, 0.9999995772160767),
+				Arguments.of(4.7, 72.5276345202229),
+				Arguments.of(0.5, 0.886226925452758),
+				Arguments.of(2.5, 3.323350970447842)
+		);
+	}
+	
 	/**
 	 * Tests the {@link CalculatorAdvanced#calculateAdvanced(char)} method to ensure that
      * it throws a {@link NumberNotInAreaException} when a number is outside the allowed area for calculation.
@@ -267,8 +313,27 @@ class CalculatorAdvancedTest {
 	 * Tests the method hasCharacteristic using parameterized test data.
      * This method uses various sets of input data provided by the {@link #provideHasCharacteristicTestData()} method
      * to verify that the method correctly calculates the expected result based on a given operator
-     * and value.
+     * and value, and that the check does not allocate.
      * 
+	 * @param startValue The start value for currentValue.
+	 * @param result Expected result.
+	 * @param value The value for function hasCharacteristic.
+	 * @param meter The meter measuring the allocations of the check.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideHasCharacteristicTestData")
+	@AllocationBudget(bytes = 0)
+	void testHasCharacteristic(Double startValue, Boolean result, char value, AllocationMeter meter) throws Exception {
+		calculatorAdvanced.setCurrentValue(startValue);
+		assertThat(result, is(calculatorAdvanced.hasCharacteristic(value)));
+		meter.measure(() -> calculatorAdvanced.hasCharacteristic(value));
+	}
+	
+	/**
+	 * Tests the method hasCharacteristic for values beyond the long range,
+	 * which are checked as BigInteger values.
+	 * 
 	 * @param startValue The start value for currentValue.
 	 * @param result Expected result.
 	 * @param value The value for function hasCharacteristic.
@@ -276,11 +341,23 @@ class CalculatorAdvancedTest {
 	 * @throws NumberNotInAreaException
 	 */
 	@ParameterizedTest
-	@MethodSource("provideHasCharacteristicTestData")
-	void testHasCharacteristic(Double startValue, Boolean result, char value) throws NotSupportedOperationException, NumberNotInAreaException {
+	@MethodSource("provideHasCharacteristicBeyondLongTestData")
+	void testHasCharacteristicBeyondLong(Double startValue, Boolean result, char value) throws NotSupportedOperationException, NumberNotInAreaException {
 		calculatorAdvanced.setCurrentValue(startValue);
 		assertThat(result, is(calculatorAdvanced.hasCharacteristic(value)));
-		
+	}
+	
+	/**
+	 * Provides a stream of test data for testing method hasCharacteristic beyond the long range.
+	 * 
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideHasCharacteristicBeyondLongTestData() {
+		return Stream.of(
+				Arguments.of(1.0e30, false, 'A'),
+				Arguments.of(Double.MAX_VALUE, false, 'P'),
+				Arguments.of(0x1.0p120 * (0x1.0p121 - 1), false, 'P')
+		);
 	}
 	
 	/**
@@ -303,7 +380,13 @@ class CalculatorAdvancedTest {
 				Arguments.of(496.0, true, 'P'),
 				Arguments.of(9474.0, true, 'A'),    
 			    Arguments.of(8128.0, true, 'P'),   
-			    Arguments.of(2.0, false, 'P')
+			    Arguments.of(2.0, false, 'P'),
+			    Arguments.of(8589869056.0, true, 'P'),
+			    Arguments.of(2305843008139952128.0, true, 'P'),
+			    Arguments.of(4294967296.0, false, 'P'),
+			    Arguments.of(4679307774.0, true, 'A'),
+			    Arguments.of(4679307774.5, true, 'A'),
+			    Arguments.of(2147483648.0, false, 'A')
 	    );
 	}
 	
@@ -373,7 +456,139 @@ class CalculatorAdvancedTest {
 				Arguments.of(0.0, '%', "Number not in area"),
 				Arguments.of(-Double.MAX_VALUE, 'A', "Number not in area"),
 			    Arguments.of(0.0, 'P', "Number not in area"),
-			    Arguments.of(-1.0, 'P', "Number not in area")
+			    Arguments.of(-1.0, 'P', "Number not in area"),
+			    Arguments.of(Double.NaN, 'A', "Number not in area"),
+			    Arguments.of(Double.POSITIVE_INFINITY, 'P', "Number not in area")
+		);
+	}
+	
+	/**
+	 * Tests the method characteristics using parameterized test data.
+	 * 
+	 * @param startValue The start value for currentValue.
+	 * @param mask The expected bitmask of characteristics.
+	 * @throws NumberNotInAreaException
+	 */
+	@ParameterizedTest
+	@MethodSource("provideCharacteristicsTestData")
+	void testCharacteristics(Double startValue, int mask) throws NumberNotInAreaException {
+		calculatorAdvanced.setCurrentValue(startValue);
+		assertThat(calculatorAdvanced.characteristics(), is(mask));
+	}
+	
+	/**
+	 * Provides a stream of test data for testing method characteristics.
+	 * 
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideCharacteristicsTestData() {
+		return Stream.of(
+				Arguments.of(6.0, Characteristics.ARMSTRONG | Characteristics.PERFECT | Characteristics.PALINDROME),
+				Arguments.of(153.9, Characteristics.ARMSTRONG | Characteristics.DEFICIENT),
+				Arguments.of(496.0, Characteristics.PERFECT),
+				Arguments.of(11.0, Characteristics.DEFICIENT | Characteristics.PRIME | Characteristics.PALINDROME),
+				Arguments.of(2147483647.5, Characteristics.DEFICIENT | Characteristics.PRIME)
+		);
+	}
+	
+	/**
+	 * Tests that method characteristics rejects values outside the int range.
+	 * 
+	 * @param startValue The start value for currentValue.
+	 * @param message The expected exception message.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideCharacteristicsNumberNotInAreaData")
+	void testCharacteristicsNumberNotInArea(Double startValue, String message) {
+		calculatorAdvanced.setCurrentValue(startValue);
+		NumberNotInAreaException exception = assertThrows(NumberNotInAreaException.class,
+				() -> calculatorAdvanced.characteristics());
+		assertThat("Messages should match", exception.getMessage(), is(message));
+	}
+	
+	/**
+	 * Provides a stream of test data for testing NumberNotInAreaException of method characteristics.
+	 * 
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideCharacteristicsNumberNotInAreaData() {
+		return Stream.of(
+				Arguments.of(0.5, "Number not in area"),
+				Arguments.of(2147483648.0, "Number not in area"),
+				Arguments.of(Double.NaN, "Number not in area"),
+				Arguments.of(Double.POSITIVE_INFINITY, "Number not in area")
+		);
+	}
+
+	/**
+	 * Tests that the operations with a live token give the same results as without one,
+	 * and that checking the token does not allocate.
+	 * 
+	 * @param meter The meter measuring the allocations of the operations.
+	 * @throws Exception
+	 */
+	@Test
+	@AllocationBudget(bytes = 0)
+	void testOperationsWithLiveToken(AllocationMeter meter) throws Exception {
+		CancellationToken token = new CancellationToken(1, TimeUnit.HOURS);
+		calculatorAdvanced.setCurrentValue(3.0);
+		calculatorAdvanced.calculateAdvanced('2', token);
+		assertThat(calculatorAdvanced.getCurrentValue(), is(9.0));
+		calculatorAdvanced.setCurrentValue(28.0);
+		assertThat(calculatorAdvanced.hasCharacteristic('P', token), is(true));
+		assertThat(calculatorAdvanced.hasCharacteristic('A', token), is(false));
+		assertThat(calculatorAdvanced.characteristics(token), is(Characteristics.PERFECT));
+		meter.measure(() -> {
+			calculatorAdvanced.characteristics(token);
+			calculatorAdvanced.calculateAdvanced('1', token);
+		});
+	}
+	
+	/**
+	 * Tests that the operations stop with a cancelled or expired token
+	 * and leave the current value unchanged.
+	 * 
+	 * @param operation The index of the operation.
+	 * @param token The token of the operation.
+	 * @param message The expected exception message.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideCancelledTestData")
+	void testOperationCancelled(int operation, CancellationToken token, String message) {
+		calculatorAdvanced.setCurrentValue(6.0);
+		OperationCancelledException exception = assertThrows(OperationCancelledException.class, () -> {
+			switch(operation) {
+			case 0:
+				calculatorAdvanced.calculateAdvanced('!', token);
+				break;
+			case 1:
+				calculatorAdvanced.hasCharacteristic('P', token);
+				break;
+			default:
+				calculatorAdvanced.characteristics(token);
+				break;
+			}
+		});
+		assertThat("Messages should match", exception.getMessage(), is(message));
+		assertThat(calculatorAdvanced.getCurrentValue(), is(6.0));
+	}
+	
+	/**
+	 * Provides a stream of test data for testing cancelled operations.
+	 * 
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideCancelledTestData() {
+		CancellationToken cancelled = new CancellationToken();
+		cancelled.cancel();
+		CancellationToken expired = new CancellationToken(0, TimeUnit.NANOSECONDS);
+		return Stream.of(
+				Arguments.of(0, cancelled, "Operation cancelled"),
+				Arguments.of(1, cancelled, "Operation cancelled"),
+				Arguments.of(2, cancelled, "Operation cancelled"),
+				Arguments.of(0, expired, "Deadline exceeded"),
+				Arguments.of(1, expired, "Deadline exceeded"),
+				Arguments.of(2, expired, "Deadline exceeded")
 		);
 	}
 
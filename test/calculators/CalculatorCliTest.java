@@ -0,0 +1,95 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import exceptions.DivisionByZeroException;
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link CalculatorCli} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class CalculatorCliTest {
+
+	/**
+	 * Tests the evaluation of valid expressions.
+	 *
+	 * @param expression The expression, with tokens separated by spaces.
+	 * @param result The expected output.
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 * @throws NumberNotInAreaException
+	 */
+	@ParameterizedTest
+	@MethodSource("provideEvaluateTestData")
+	void testEvaluate(String expression, String result)
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		assertThat(CalculatorCli.evaluate(expression.split(" ")), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing valid expressions.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideEvaluateTestData() {
+		return Stream.of(
+				Arguments.of("5", "5.0"),
+				Arguments.of("1 + 2", "3.0"),
+				Arguments.of("10 - 4 * 3 / 2", "9.0"),
+				Arguments.of("3 + -5", "-2.0"),
+				Arguments.of("2 + 1 ^2 !", "362880.0"),
+				Arguments.of("3 ^0", "1.0"),
+				Arguments.of("150 + 3 A", "true"),
+				Arguments.of("28 P", "true"),
+				Arguments.of("27 P", "false")
+		);
+	}
+
+	/**
+	 * Tests that invalid expressions throw the exceptions of the calculators.
+	 *
+	 * @param expression The expression, with tokens separated by spaces.
+	 * @param exception The expected exception class.
+	 * @param message The expected exception message.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideInvalidExpressionTestData")
+	void testInvalidExpression(String expression, Class<? extends Exception> exception, String message) {
+		Exception thrown = assertThrows(exception, () -> CalculatorCli.evaluate(expression.split(" ")));
+		assertThat("Messages should match", thrown.getMessage(), is(message));
+	}
+
+	/**
+	 * Provides a stream of test data for testing invalid expressions.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideInvalidExpressionTestData() {
+		return Stream.of(
+				Arguments.of("5 / 0", DivisionByZeroException.class, "Cannot divide by zero"),
+				Arguments.of("11 !", NumberNotInAreaException.class, "Number not in area"),
+				Arguments.of("2 % 3", NotSupportedOperationException.class, "Operation not supported"),
+				Arguments.of("2 X", NotSupportedOperationException.class, "Action not supported"),
+				Arguments.of("2 ^x", NotSupportedOperationException.class, "Operation not supported"),
+				Arguments.of("3 ^!", NotSupportedOperationException.class, "Operation not supported"),
+				Arguments.of("2 +", IllegalArgumentException.class, "Missing value"),
+				Arguments.of("x + 1", IllegalArgumentException.class, "Invalid number: x"),
+				Arguments.of("2  P", IllegalArgumentException.class, "Empty token"),
+				Arguments.of(" 2", IllegalArgumentException.class, "Empty token")
+		);
+	}
+}
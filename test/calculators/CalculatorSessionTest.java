@@ -0,0 +1,258 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import exceptions.DivisionByZeroException;
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link CalculatorSession} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class CalculatorSessionTest {
+	/**
+	 * The shared executor of the sessions.
+	 */
+	private ExecutorService executor;
+
+	/**
+	 * Set up method that runs before each test.
+	 * This method is used to create the shared executor.
+	 *
+	 * @throws Exception if an error occurs during setup
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	/**
+	 * Tear down method that runs after each test.
+	 * This method is used to shut the shared executor down.
+	 *
+	 * @throws Exception if an error occurs during cleanup
+	 */
+	@AfterEach
+	void tearDown() throws Exception {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Tests that the operations of a session are applied in submission order
+	 * while many sessions share the executor.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testOperationsAreOrderedPerSession() throws Exception {
+		List<CalculatorSession> sessions = new ArrayList<>();
+		List<CompletableFuture<Double>> last = new ArrayList<>();
+		for(int s = 0; s < 50; s++) {
+			sessions.add(new CalculatorSession(executor));
+		}
+		for(int step = 0; step < 1000; step++) {
+			for(CalculatorSession session : sessions) {
+				session.calculate(1.0, '+');
+				session.calculate(2.0, '*');
+			}
+		}
+		for(CalculatorSession session : sessions) {
+			last.add(session.getCurrentValue());
+		}
+		double expected = 0.0;
+		for(int step = 0; step < 1000; step++) {
+			expected = (expected + 1.0) * 2.0;
+		}
+		for(CompletableFuture<Double> future : last) {
+			assertThat(future.get(10, TimeUnit.SECONDS), is(expected));
+		}
+	}
+
+	/**
+	 * Tests that each future is completed with the value right after its own operation.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testFutureValues() throws Exception {
+		CalculatorSession session = new CalculatorSession(executor);
+		CompletableFuture<Double> set = session.setCurrentValue(3.0);
+		CompletableFuture<Double> power = session.calculateAdvanced('2');
+		CompletableFuture<Double> sum = session.calculate(19.0, '+');
+		CompletableFuture<Boolean> perfect = session.hasCharacteristic('P');
+		assertThat(set.get(10, TimeUnit.SECONDS), is(3.0));
+		assertThat(power.get(10, TimeUnit.SECONDS), is(9.0));
+		assertThat(sum.get(10, TimeUnit.SECONDS), is(28.0));
+		assertThat(perfect.get(10, TimeUnit.SECONDS), is(true));
+	}
+
+	/**
+	 * Tests that a failing operation completes its future exceptionally
+	 * and leaves the session usable for the next operations.
+	 *
+	 * @param operation The index of the failing operation.
+	 * @param exception The expected exception class.
+	 * @param message The expected exception message.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideFailingOperationTestData")
+	void testFailingOperation(int operation, Class<? extends Exception> exception, String message) throws Exception {
+		CalculatorSession session = new CalculatorSession(executor);
+		session.setCurrentValue(20.0);
+		CompletableFuture<?> failed;
+		switch(operation) {
+		case 0:
+			failed = session.calculate(0.0, '/');
+			break;
+		case 1:
+			failed = session.calculateAdvanced('!');
+			break;
+		default:
+			failed = session.hasCharacteristic('X');
+			break;
+		}
+		CompletableFuture<Double> next = session.calculate(1.0, '+');
+		ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+		assertThat(thrown.getCause(), instanceOf(exception));
+		assertThat("Messages should match", thrown.getCause().getMessage(), is(message));
+		assertThat(next.get(10, TimeUnit.SECONDS), is(21.0));
+	}
+
+	/**
+	 * Provides a stream of test data for testing failing operations.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideFailingOperationTestData() {
+		return Stream.of(
+				Arguments.of(0, DivisionByZeroException.class, "Cannot divide by zero"),
+				Arguments.of(1, NumberNotInAreaException.class, "Number not in area"),
+				Arguments.of(2, NotSupportedOperationException.class, "Action not supported")
+		);
+	}
+
+	/**
+	 * Tests that a session without work does not occupy the executor.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testIdleSessionIsNotScheduled() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		CalculatorSession session = new CalculatorSession(submitted::add);
+		assertThat(submitted.size(), is(0));
+		CompletableFuture<Double> first = session.calculate(1.0, '+');
+		session.calculate(1.0, '+');
+		assertThat(submitted.size(), is(1));
+		submitted.remove(0).run();
+		assertThat(first.get(), is(1.0));
+		assertThat(submitted.size(), is(0));
+	}
+
+	/**
+	 * Tests that an operation rejected by the executor fails its own future
+	 * and is not applied with the next operation.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testRejectedOperationIsNotApplied() throws Exception {
+		boolean[] reject = {true};
+		Executor executor = command -> {
+			if(reject[0]) {
+				throw new RejectedExecutionException("Executor shut down");
+			}
+			command.run();
+		};
+		CalculatorSession session = new CalculatorSession(executor);
+		CompletableFuture<Double> rejected = session.calculate(5.0, '+');
+		ExecutionException thrown = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+		assertThat(thrown.getCause(), instanceOf(RejectedExecutionException.class));
+		reject[0] = false;
+		assertThat(session.calculate(1.0, '+').get(10, TimeUnit.SECONDS), is(1.0));
+	}
+
+	/**
+	 * Tests that the operations left after a batch fail when the executor rejects the next batch,
+	 * and that the session runs new operations once the executor accepts them again.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testRejectedRescheduleFailsWaitingOperations() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		boolean[] reject = {false};
+		Executor executor = command -> {
+			if(reject[0]) {
+				throw new RejectedExecutionException("Executor saturated");
+			}
+			submitted.add(command);
+		};
+		CalculatorSession session = new CalculatorSession(executor);
+		List<CompletableFuture<Double>> futures = new ArrayList<>();
+		for(int i = 0; i < CalculatorSession.BATCH_SIZE + 2; i++) {
+			futures.add(session.calculate(1.0, '+'));
+		}
+		reject[0] = true;
+		submitted.remove(0).run();
+		assertThat(futures.get(CalculatorSession.BATCH_SIZE - 1).get(), is((double) CalculatorSession.BATCH_SIZE));
+		for(CompletableFuture<Double> future : futures.subList(CalculatorSession.BATCH_SIZE, futures.size())) {
+			ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get());
+			assertThat(thrown.getCause(), instanceOf(RejectedExecutionException.class));
+		}
+		reject[0] = false;
+		CompletableFuture<Double> next = session.calculate(1.0, '+');
+		submitted.remove(0).run();
+		assertThat(next.get(), is(CalculatorSession.BATCH_SIZE + 1.0));
+		assertThat(submitted.size(), is(0));
+	}
+
+	/**
+	 * Tests that an error thrown by an operation fails its future and leaves the session usable.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testErrorInOperation() throws Exception {
+		CalculatorAdvanced failing = new CalculatorAdvanced() {
+			@Override
+			public void calculateAdvanced(char action) {
+				throw new AssertionError("Broken calculator");
+			}
+		};
+		CalculatorSession session = new CalculatorSession(failing, executor);
+		CompletableFuture<Double> broken = session.calculateAdvanced('2');
+		CompletableFuture<Double> next = session.calculate(2.0, '+');
+		ExecutionException thrown = assertThrows(ExecutionException.class, () -> broken.get(10, TimeUnit.SECONDS));
+		assertThat(thrown.getCause(), instanceOf(AssertionError.class));
+		assertThat(next.get(10, TimeUnit.SECONDS), is(2.0));
+	}
+}
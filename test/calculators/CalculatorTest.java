@@ -2,6 +2,10 @@ package calculators;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
@@ -15,6 +19,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import exceptions.DivisionByZeroException;
 import exceptions.NotSupportedOperationException;
+import extensions.AllocationBudget;
+import extensions.AllocationMeter;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -98,21 +104,26 @@ class CalculatorTest {
 	 * Tests the calculator's basic arithmetic operations using parameterized test data.
      * This method uses various sets of input data provided by the {@link #provideCalculateTestData()} method
      * to verify that the calculator correctly calculates the expected result based on a given operator
-     * and value.
+     * and value, and that the calculation does not allocate.
      * 
 	 * @param startValue The start value for currentValue.
 	 * @param value The value to be used in the arithmetic operation.
 	 * @param result The expected result of the calculation.
 	 * @param operator The arithmetic operator to perform the calculation.
-	 * @throws DivisionByZeroException
-	 * @throws NotSupportedOperationException
+	 * @param meter The meter measuring the allocations of the calculation.
+	 * @throws Exception
 	 */
 	@ParameterizedTest
 	@MethodSource("provideCalculateTestData")
-	void testCalculate(Double startValue, Double value, Double result, char operator) throws DivisionByZeroException, NotSupportedOperationException {
+	@AllocationBudget(bytes = 0)
+	void testCalculate(Double startValue, Double value, Double result, char operator, AllocationMeter meter) throws Exception {
 		calculator.setCurrentValue(startValue);
 		calculator.calculate(value, operator);
 		assertThat(result, is(calculator.getCurrentValue()));
+		meter.measure(() -> {
+			calculator.setCurrentValue(startValue);
+			calculator.calculate(value, operator);
+		});
 	}
 	
 	/**
@@ -158,6 +169,99 @@ class CalculatorTest {
 		);
 	}
 	
+	/**
+	 * Tests the calculator's precision mode using parameterized test data.
+	 * This method uses the data provided by the {@link #providePrecisionModeTestData()} method
+	 * to verify that results are exact decimal values and that the double current value is their nearest double.
+	 * 
+	 * @param startValue The start value for currentValue.
+	 * @param value The value to be used in the arithmetic operation.
+	 * @param result The expected exact result of the calculation.
+	 * @param operator The arithmetic operator to perform the calculation.
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@ParameterizedTest
+	@MethodSource("providePrecisionModeTestData")
+	void testCalculatePrecisionMode(Double startValue, Double value, String result, char operator) throws DivisionByZeroException, NotSupportedOperationException {
+		calculator.setPrecisionMode(MathContext.DECIMAL64);
+		calculator.setCurrentValue(startValue);
+		calculator.calculate(value, operator);
+		assertThat(calculator.getExactValue().compareTo(new BigDecimal(result)), is(0));
+		assertThat(calculator.getCurrentValue(), is(new BigDecimal(result).doubleValue()));
+	}
+	
+	/**
+	 * Provides a stream of test data for testing the precision mode.
+	 * 
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> providePrecisionModeTestData() {
+		return Stream.of(
+				Arguments.of(0.1, 0.2, "0.3", '+'),
+				Arguments.of(0.3, 0.1, "0.2", '-'),
+				Arguments.of(1.1, 1.1, "1.21", '*'),
+				Arguments.of(1.0, 4.0, "0.25", '/'),
+				Arguments.of(1.0, 3.0, "0.3333333333333333", '/'),
+				Arguments.of(9.0E18, 9.0E18, "18000000000000000000", '+'),
+				Arguments.of(1.0E-15, 1.0E-15, "1E-30", '*'),
+				Arguments.of(123456789.123, 1000.0, "123456789123", '*'),
+				Arguments.of(-2.5, 0.5, "-5", '/')
+		);
+	}
+	
+	/**
+	 * Tests that the precision mode keeps exact results across several operations.
+	 * 
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	void testPrecisionModeAccumulates() throws DivisionByZeroException, NotSupportedOperationException {
+		calculator.setPrecisionMode(MathContext.DECIMAL128);
+		for(int i = 0; i < 10; i++) {
+			calculator.calculate(0.1, '+');
+		}
+		assertThat(calculator.getExactValue().compareTo(BigDecimal.ONE), is(0));
+		assertThat(calculator.getCurrentValue(), is(1.0));
+		calculator.setPrecisionMode(null);
+		assertThat(calculator.getPrecisionMode() == null, is(true));
+	}
+	
+	/**
+	 * Tests that the precision mode rejects a context with unlimited precision
+	 * and keeps its previous setting.
+	 */
+	@Test
+	void testPrecisionModeUnlimited() {
+		calculator.setPrecisionMode(MathContext.DECIMAL64);
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> calculator.setPrecisionMode(MathContext.UNLIMITED));
+		assertThat("Messages should match", exception.getMessage(), is("Precision must be limited"));
+		assertThat(calculator.getPrecisionMode(), is(MathContext.DECIMAL64));
+	}
+	
+	/**
+	 * Tests that the result listener receives every new current value,
+	 * including values restored by undo and redo, and nothing after it is removed.
+	 * 
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	void testResultListener() throws DivisionByZeroException, NotSupportedOperationException {
+		List<Double> results = new ArrayList<>();
+		calculator.setResultListener(results::add);
+		calculator.setCurrentValue(4.0);
+		calculator.calculate(3.0, '*');
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0, '/'));
+		calculator.undo();
+		calculator.redo();
+		calculator.setResultListener(null);
+		calculator.calculate(1.0, '+');
+		assertThat(results, is(List.of(4.0, 12.0, 4.0, 12.0)));
+	}
+	
 	
 	/**
 	 * Tests the calculator's behavior when a division by zero operation is performed.
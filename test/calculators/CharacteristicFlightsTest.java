@@ -0,0 +1,196 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import exceptions.NotSupportedOperationException;
+import exceptions.NumberNotInAreaException;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link CharacteristicFlights} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class CharacteristicFlightsTest {
+
+	/**
+	 * Tests that the results match {@link CalculatorAdvanced#hasCharacteristic(char)}.
+	 *
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 * @param result The expected result.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideResultTestData")
+	void testResults(double value, char characteristic, boolean result) throws Exception {
+		CharacteristicFlights flights = new CharacteristicFlights();
+		assertThat(flights.hasCharacteristic(value, characteristic), is(result));
+		assertThat(flights.hasCharacteristicAsync(value, characteristic).get(10, TimeUnit.SECONDS), is(result));
+		assertThat(flights.getInFlightCount(), is(0));
+	}
+
+	/**
+	 * Provides a stream of test data for testing results.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideResultTestData() {
+		return Stream.of(
+				Arguments.of(153.0, 'A', true),
+				Arguments.of(153.9, 'A', true),
+				Arguments.of(8128.0, 'P', true),
+				Arguments.of(8129.0, 'P', false),
+				Arguments.of(1.0e30, 'A', false)
+		);
+	}
+
+	/**
+	 * Tests that concurrent sync and async callers of the same check share one computation,
+	 * that cancelling or completing the future of one async caller does not affect the others,
+	 * and that a different check is computed separately.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testConcurrentCallersShareComputation() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger computations = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CharacteristicFlights flights = new CharacteristicFlights(executor, (value, characteristic) -> {
+				computations.incrementAndGet();
+				started.countDown();
+				try {
+					release.await();
+				} catch(InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				return CalculatorAdvanced.hasCharacteristic(value, characteristic);
+			});
+			CompletableFuture<Boolean> first = flights.hasCharacteristicAsync(496.0, 'P');
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+			List<CompletableFuture<Boolean>> sync = new ArrayList<>();
+			List<Thread> threads = new ArrayList<>();
+			for(int i = 0; i < 4; i++) {
+				CompletableFuture<Boolean> result = new CompletableFuture<>();
+				Thread thread = new Thread(() -> {
+					try {
+						result.complete(flights.hasCharacteristic(496.5, 'P'));
+					} catch(Exception e) {
+						result.completeExceptionally(e);
+					}
+				});
+				sync.add(result);
+				threads.add(thread);
+				thread.start();
+			}
+			for(Thread thread : threads) {
+				while(thread.getState() != Thread.State.WAITING) {
+					Thread.sleep(1);
+				}
+			}
+			List<CompletableFuture<Boolean>> async = new ArrayList<>();
+			for(int i = 0; i < 100; i++) {
+				async.add(flights.hasCharacteristicAsync(496.0, 'P'));
+			}
+			assertThat(async.get(0) == first, is(false));
+			assertThat(first.isDone(), is(false));
+			assertThat(flights.getInFlightCount(), is(1));
+			CompletableFuture<Boolean> cancelled = async.remove(0);
+			assertThat(cancelled.cancel(true), is(true));
+			CompletableFuture<Boolean> completed = async.remove(0);
+			assertThat(completed.complete(false), is(true));
+			assertThat(first.isDone(), is(false));
+			release.countDown();
+			assertThat(first.get(10, TimeUnit.SECONDS), is(true));
+			assertThat(cancelled.isCancelled(), is(true));
+			assertThat(completed.get(), is(false));
+			for(CompletableFuture<Boolean> future : sync) {
+				assertThat(future.get(10, TimeUnit.SECONDS), is(true));
+			}
+			for(CompletableFuture<Boolean> future : async) {
+				assertThat(future.get(10, TimeUnit.SECONDS), is(true));
+			}
+			assertThat(computations.get(), is(1));
+			assertThat(flights.getInFlightCount(), is(0));
+			assertThat(flights.hasCharacteristic(496.0, 'A'), is(false));
+			assertThat(flights.hasCharacteristic(496.0, 'P'), is(true));
+			assertThat(computations.get(), is(3));
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that a failing check reaches every caller with its exception,
+	 * and is unregistered so that the next caller computes it again.
+	 *
+	 * @param value The value to check.
+	 * @param characteristic The characteristic to check.
+	 * @param exception The expected exception class.
+	 * @param message The expected exception message.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideFailureTestData")
+	void testFailureIsCleanedUp(double value, char characteristic, Class<? extends Exception> exception, String message)
+			throws Exception {
+		CharacteristicFlights flights = new CharacteristicFlights();
+		Exception thrown = assertThrows(exception, () -> flights.hasCharacteristic(value, characteristic));
+		assertThat("Messages should match", thrown.getMessage(), is(message));
+		assertThat(flights.getInFlightCount(), is(0));
+		ExecutionException async = assertThrows(ExecutionException.class,
+				() -> flights.hasCharacteristicAsync(value, characteristic).get(10, TimeUnit.SECONDS));
+		assertThat(async.getCause(), instanceOf(exception));
+		assertThat(flights.getInFlightCount(), is(0));
+	}
+
+	/**
+	 * Provides a stream of test data for testing failures.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideFailureTestData() {
+		return Stream.of(
+				Arguments.of(0.5, 'A', NumberNotInAreaException.class, "Number not in area"),
+				Arguments.of(Double.NaN, 'P', NumberNotInAreaException.class, "Number not in area"),
+				Arguments.of(6.0, 'X', NotSupportedOperationException.class, "Action not supported")
+		);
+	}
+
+	/**
+	 * Tests that a check rejected by the executor fails and is unregistered.
+	 */
+	@Test
+	void testRejectedExecution() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.shutdown();
+		CharacteristicFlights flights = new CharacteristicFlights(executor);
+		assertThat(flights.hasCharacteristicAsync(6.0, 'P').isCompletedExceptionally(), is(true));
+		assertThat(flights.getInFlightCount(), is(0));
+	}
+}
@@ -0,0 +1,501 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import exceptions.OperationCancelledException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link Characteristics} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class CharacteristicsTest {
+
+	/**
+	 * Tests the Armstrong check for long values.
+	 *
+	 * @param number The number to check.
+	 * @param result The expected result.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideArmstrongLongTestData")
+	void testIsArmstrongLong(long number, boolean result) {
+		assertThat(Characteristics.isArmstrong(number), is(result));
+		assertThat(Characteristics.isArmstrong(BigInteger.valueOf(number)), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the Armstrong check for long values.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideArmstrongLongTestData() {
+		return Stream.of(
+				Arguments.of(1L, true),
+				Arguments.of(153L, true),
+				Arguments.of(154L, false),
+				Arguments.of(4679307774L, true),
+				Arguments.of(4679307775L, false),
+				Arguments.of(4929273885928088826L, true),
+				Arguments.of(Long.MAX_VALUE, false),
+				Arguments.of(0L, false),
+				Arguments.of(-153L, false)
+		);
+	}
+
+	/**
+	 * Tests the Armstrong check for values beyond the long range.
+	 *
+	 * @param number The number to check.
+	 * @param result The expected result.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideArmstrongBigIntegerTestData")
+	void testIsArmstrongBigInteger(String number, boolean result) {
+		assertThat(Characteristics.isArmstrong(new BigInteger(number)), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the Armstrong check for large values.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideArmstrongBigIntegerTestData() {
+		return Stream.of(
+				Arguments.of("115132219018763992565095597973971522401", true),
+				Arguments.of("115132219018763992565095597973971522402", false),
+				Arguments.of("10000000000000000000000", false),
+				Arguments.of("1" + "0".repeat(100), false),
+				Arguments.of("9".repeat(60), false),
+				Arguments.of(BigInteger.ONE.shiftLeft(200).subtract(BigInteger.ONE).toString(), false),
+				Arguments.of("-115132219018763992565095597973971522401", false)
+		);
+	}
+
+	/**
+	 * Tests the perfect number check for long values.
+	 *
+	 * @param number The number to check.
+	 * @param result The expected result.
+	 */
+	@ParameterizedTest
+	@MethodSource("providePerfectLongTestData")
+	void testIsPerfectLong(long number, boolean result) {
+		assertThat(Characteristics.isPerfect(number), is(result));
+		assertThat(Characteristics.isPerfect(BigInteger.valueOf(number)), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the perfect number check for long values.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> providePerfectLongTestData() {
+		return Stream.of(
+				Arguments.of(6L, true),
+				Arguments.of(28L, true),
+				Arguments.of(496L, true),
+				Arguments.of(8128L, true),
+				Arguments.of(33550336L, true),
+				Arguments.of(8589869056L, true),
+				Arguments.of(137438691328L, true),
+				Arguments.of(2305843008139952128L, true),
+				Arguments.of(2096128L, false),
+				Arguments.of(12L, false),
+				Arguments.of(1L, false),
+				Arguments.of(2L, false),
+				Arguments.of(945L, false),
+				Arguments.of(Long.MIN_VALUE, false)
+		);
+	}
+
+	/**
+	 * Tests the perfect number check for values beyond the long range.
+	 *
+	 * @param number The number to check.
+	 * @param result The expected result.
+	 */
+	@ParameterizedTest
+	@MethodSource("providePerfectBigIntegerTestData")
+	void testIsPerfectBigInteger(String number, boolean result) {
+		assertThat(Characteristics.isPerfect(new BigInteger(number)), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the perfect number check for large values.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> providePerfectBigIntegerTestData() {
+		return Stream.of(
+				Arguments.of("2658455991569831744654692615953842176", true),
+				Arguments.of("191561942608236107294793378084303638130997321548169216", true),
+				Arguments.of("14474011154664524427946373126085988481573677491474835889066354349131199152128", true),
+				Arguments.of("10889035741470030830754200461521744560128", false),
+				Arguments.of("2658455991569831744654692615953842178", false),
+				Arguments.of("2658455991569831744654692615953842177", false)
+		);
+	}
+
+	/**
+	 * Tests that a long perfect number check stops at the first check of its token after the deadline.
+	 * The clock advances by one nanosecond per read, so the check reads it on entry, once every
+	 * {@link CancellationToken#CHECK_INTERVAL} iterations of the Lucas-Lehmer test of {@code 2^19937 - 1},
+	 * which takes seconds in full, and on exit.
+	 */
+	@Test
+	void testIsPerfectStopsAtDeadline() {
+		BigInteger perfect = BigInteger.ONE.shiftLeft(19937).subtract(BigInteger.ONE).shiftLeft(19936);
+		AtomicLong reads = new AtomicLong();
+		CancellationToken token = new CancellationToken(10, TimeUnit.NANOSECONDS, reads::getAndIncrement);
+		OperationCancelledException thrown = assertThrows(OperationCancelledException.class,
+				() -> Characteristics.isPerfect(perfect, token));
+		assertThat("Messages should match", thrown.getMessage(), is("Deadline exceeded"));
+		assertThat(reads.get(), is(12L));
+	}
+
+	/**
+	 * Tests that a long perfect number check cancelled from another thread stops
+	 * at the next check of its token. The clock holds the check at its fifth read
+	 * until the other thread has cancelled the token; the checks after that read only the flag.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testIsPerfectStopsWhenCancelled() throws Exception {
+		BigInteger perfect = BigInteger.ONE.shiftLeft(19937).subtract(BigInteger.ONE).shiftLeft(19936);
+		AtomicLong reads = new AtomicLong();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		CancellationToken token = new CancellationToken(1, TimeUnit.HOURS, () -> {
+			long read = reads.getAndIncrement();
+			if(read == 5) {
+				started.countDown();
+				try {
+					cancelled.await();
+				} catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return read;
+		});
+		Thread canceller = new Thread(() -> {
+			try {
+				started.await();
+			} catch(InterruptedException e) {
+				return;
+			}
+			token.cancel();
+			cancelled.countDown();
+		});
+		canceller.start();
+		OperationCancelledException thrown = assertThrows(OperationCancelledException.class,
+				() -> Characteristics.isPerfect(perfect, token));
+		assertThat("Messages should match", thrown.getMessage(), is("Operation cancelled"));
+		canceller.join();
+		assertThat(reads.get(), is(6L));
+	}
+
+	/**
+	 * Tests that a cancelled classification gives up.
+	 */
+	@Test
+	void testClassifyCancelled() {
+		CancellationToken token = new CancellationToken();
+		token.cancel();
+		assertThat(Characteristics.classify(2147483647, token), is(0));
+		assertThat(Characteristics.classify(2147483647, new CancellationToken()),
+				is(Characteristics.DEFICIENT | Characteristics.PRIME));
+	}
+
+	/**
+	 * Tests listing the Armstrong and perfect numbers of a range.
+	 *
+	 * @param from The lower bound of the range.
+	 * @param to The upper bound of the range.
+	 * @param armstrong The expected Armstrong numbers.
+	 * @param perfect The expected perfect numbers.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideRangeTestData")
+	void testNumbersBetween(long from, long to, long[] armstrong, long[] perfect) {
+		assertThat(Characteristics.armstrongNumbersBetween(from, to), is(armstrong));
+		assertThat(Characteristics.perfectNumbersBetween(from, to), is(perfect));
+	}
+
+	/**
+	 * Provides a stream of test data for testing ranges.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideRangeTestData() {
+		return Stream.of(
+				Arguments.of(100L, 500L, new long[] {153L, 370L, 371L, 407L}, new long[] {496L}),
+				Arguments.of(407L, 496L, new long[] {407L}, new long[] {496L}),
+				Arguments.of(10L, 20L, new long[0], new long[0]),
+				Arguments.of(500L, 100L, new long[0], new long[0]),
+				Arguments.of(1L << 50, Long.MAX_VALUE,
+						new long[] {4338281769391370L, 4338281769391371L, 21897142587612075L, 35641594208964132L,
+								35875699062250035L, 1517841543307505039L, 3289582984443187032L,
+								4498128791164624869L, 4929273885928088826L},
+						new long[] {2305843008139952128L})
+		);
+	}
+
+	/**
+	 * Tests listing the Armstrong and perfect numbers of a range of arbitrarily large numbers.
+	 *
+	 * @param from The lower bound of the range.
+	 * @param to The upper bound of the range.
+	 * @param armstrong The expected Armstrong numbers.
+	 * @param perfect The expected perfect numbers.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideBigIntegerRangeTestData")
+	void testNumbersBetweenBigInteger(BigInteger from, BigInteger to, BigInteger[] armstrong, BigInteger[] perfect) {
+		assertThat(Characteristics.armstrongNumbersBetween(from, to), is(armstrong));
+		assertThat(Characteristics.perfectNumbersBetween(from, to), is(perfect));
+	}
+
+	/**
+	 * Provides a stream of test data for testing ranges of arbitrarily large numbers.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideBigIntegerRangeTestData() {
+		return Stream.of(
+				Arguments.of(BigInteger.valueOf(-500), BigInteger.valueOf(500),
+						bigIntegers("1", "2", "3", "4", "5", "6", "7", "8", "9", "153", "370", "371", "407"),
+						bigIntegers("6", "28", "496")),
+				Arguments.of(BigInteger.TEN.pow(38), BigInteger.TEN.pow(60),
+						bigIntegers("115132219018763992565095597973971522400", "115132219018763992565095597973971522401"),
+						bigIntegers("191561942608236107294793378084303638130997321548169216")),
+				Arguments.of(new BigInteger("1145037275765491025924292050346"),
+						new BigInteger("2309092682616190307509695338915"),
+						bigIntegers("1145037275765491025924292050346", "1927890457142960697580636236639",
+								"2309092682616190307509695338915"),
+						new BigInteger[0]),
+				Arguments.of(new BigInteger("2305843008139952129"), new BigInteger("2658455991569831744654692615953842176"),
+						bigIntegers("3289582984443187032", "4498128791164624869", "4929273885928088826",
+								"63105425988599693916", "128468643043731391252", "449177399146038697307",
+								"21887696841122916288858", "27879694893054074471405", "27907865009977052567814",
+								"28361281321319229463398", "35452590104031691935943", "174088005938065293023722",
+								"188451485447897896036875", "239313664430041569350093", "1550475334214501539088894",
+								"1553242162893771850669378", "3706907995955475988644380", "3706907995955475988644381",
+								"4422095118095899619457938", "121204998563613372405438066", "121270696006801314328439376",
+								"128851796696487777842012787", "174650464499531377631639254", "177265453171792792366489765",
+								"14607640612971980372614873089", "19008174136254279995012734740",
+								"19008174136254279995012734741", "23866716435523975980390369295",
+								"1145037275765491025924292050346", "1927890457142960697580636236639",
+								"2309092682616190307509695338915", "17333509997782249308725103962772",
+								"186709961001538790100634132976990", "186709961001538790100634132976991",
+								"1122763285329372541592822900204593", "12639369517103790328947807201478392",
+								"12679937780272278566303885594196922", "1219167219625434121569735803609966019"),
+						bigIntegers("2658455991569831744654692615953842176")),
+				Arguments.of(BigInteger.TEN, BigInteger.ONE, new BigInteger[0], new BigInteger[0]),
+				Arguments.of(BigInteger.valueOf(-10), BigInteger.ZERO, new BigInteger[0], new BigInteger[0])
+		);
+	}
+
+	/**
+	 * Tests that every Armstrong number listed for a range passes the Armstrong check,
+	 * that the list ends below 40 digits, and that it agrees with the range listing of longs.
+	 */
+	@Test
+	void testArmstrongNumbersBetweenBigIntegerComplete() {
+		BigInteger[] armstrong = Characteristics.armstrongNumbersBetween(BigInteger.ONE, BigInteger.TEN.pow(60));
+		assertThat(armstrong.length, is(88));
+		for(BigInteger number : armstrong) {
+			assertThat(Characteristics.isArmstrong(number), is(true));
+		}
+		assertThat(Characteristics.armstrongNumbersBetween(BigInteger.TEN.pow(39), BigInteger.TEN.pow(60)).length, is(0));
+		long[] longs = Characteristics.armstrongNumbersBetween(1, Long.MAX_VALUE);
+		BigInteger[] bigIntegers = Characteristics.armstrongNumbersBetween(BigInteger.ONE, BigInteger.valueOf(Long.MAX_VALUE));
+		assertThat(LongStream.of(longs).mapToObj(BigInteger::valueOf).toArray(BigInteger[]::new), is(bigIntegers));
+	}
+
+	/**
+	 * Tests that every perfect number listed for a range of a few thousand bits passes the perfect check.
+	 */
+	@Test
+	void testPerfectNumbersBetweenBigIntegerArePerfect() {
+		BigInteger[] perfect = Characteristics.perfectNumbersBetween(BigInteger.ONE, BigInteger.ONE.shiftLeft(5000));
+		assertThat(perfect.length, is(17));
+		for(BigInteger number : perfect) {
+			assertThat(Characteristics.isPerfect(number), is(true));
+		}
+		assertThat(perfect[16].bitLength(), is(2 * 2281 - 1));
+	}
+
+	/**
+	 * Tests that the perfect numbers of a range are only listed as far as all of them are known.
+	 */
+	@Test
+	void testPerfectNumbersBetweenBigIntegerIllegalArgumentException() {
+		BigInteger limit = BigInteger.ONE.shiftLeft(115770321);
+		assertThat(Characteristics.perfectNumbersBetween(limit.subtract(BigInteger.ONE), limit.subtract(BigInteger.ONE)).length, is(0));
+		IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+				() -> Characteristics.perfectNumbersBetween(BigInteger.ONE, limit));
+		assertThat("Messages should match", thrown.getMessage(), is("Range exceeds the known perfect numbers"));
+	}
+
+	/**
+	 * Converts decimal strings to numbers.
+	 *
+	 * @param numbers The decimal strings.
+	 * @return The numbers.
+	 */
+	private static BigInteger[] bigIntegers(String... numbers) {
+		return Stream.of(numbers).map(BigInteger::new).toArray(BigInteger[]::new);
+	}
+
+	/**
+	 * Tests classifying a number by all characteristics at once.
+	 *
+	 * @param number The number to classify.
+	 * @param mask The expected bitmask.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideClassifyTestData")
+	void testClassify(int number, int mask) {
+		assertThat(Characteristics.classify(number), is(mask));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the classification.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideClassifyTestData() {
+		return Stream.of(
+				Arguments.of(1, Characteristics.ARMSTRONG | Characteristics.DEFICIENT | Characteristics.PALINDROME),
+				Arguments.of(2, Characteristics.ARMSTRONG | Characteristics.DEFICIENT | Characteristics.PRIME
+						| Characteristics.PALINDROME),
+				Arguments.of(6, Characteristics.ARMSTRONG | Characteristics.PERFECT | Characteristics.PALINDROME),
+				Arguments.of(12, Characteristics.ABUNDANT),
+				Arguments.of(28, Characteristics.PERFECT),
+				Arguments.of(153, Characteristics.ARMSTRONG | Characteristics.DEFICIENT),
+				Arguments.of(919, Characteristics.DEFICIENT | Characteristics.PRIME | Characteristics.PALINDROME),
+				Arguments.of(8128, Characteristics.PERFECT),
+				Arguments.of(33550336, Characteristics.PERFECT),
+				Arguments.of(2147483647, Characteristics.DEFICIENT | Characteristics.PRIME),
+				Arguments.of(2147447412, Characteristics.ABUNDANT | Characteristics.PALINDROME),
+				Arguments.of(0, 0),
+				Arguments.of(-6, 0)
+		);
+	}
+
+	/**
+	 * Tests the bulk classification against checking every property of every number separately.
+	 */
+	@Test
+	void testClassifyMatchesSeparateChecks() {
+		int[] numbers = new int[22000];
+		for(int i = 0; i < 20000; i++) {
+			numbers[i] = i - 10;
+		}
+		for(int i = 20000; i < numbers.length; i++) {
+			numbers[i] = Integer.MAX_VALUE - 3 * (i - 20000);
+		}
+		int[] masks = new int[numbers.length];
+		Characteristics.classify(numbers, masks);
+		for(int i = 0; i < numbers.length; i++) {
+			int number = numbers[i];
+			int mask = 0;
+			if(number > 0) {
+				long sum = properDivisorSum(number);
+				String digits = Integer.toString(number);
+				mask |= Characteristics.isArmstrong(number) ? Characteristics.ARMSTRONG : 0;
+				mask |= sum == number ? Characteristics.PERFECT : sum > number ? Characteristics.ABUNDANT : Characteristics.DEFICIENT;
+				mask |= number > 1 && sum == 1 ? Characteristics.PRIME : 0;
+				mask |= new StringBuilder(digits).reverse().toString().equals(digits) ? Characteristics.PALINDROME : 0;
+			}
+			assertThat(masks[i], is(mask));
+		}
+	}
+
+	/**
+	 * Tests that the bulk classification needs arrays of the same length.
+	 */
+	@Test
+	void testClassifyIllegalArgumentException() {
+		IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+				() -> Characteristics.classify(new int[2], new int[1]));
+		assertThat("Messages should match", thrown.getMessage(), is("Arrays must have the same length"));
+	}
+
+	/**
+	 * Tests the range listing against checking every number of a range by digits and divisors.
+	 */
+	@Test
+	void testNumbersBetweenMatchesScan() {
+		long[] armstrong = LongStream.rangeClosed(1, 100000).filter(CharacteristicsTest::isArmstrongByDigits).toArray();
+		long[] perfect = LongStream.rangeClosed(1, 100000).filter(CharacteristicsTest::isPerfectByDivisors).toArray();
+		assertThat(Characteristics.armstrongNumbersBetween(1, 100000), is(armstrong));
+		assertThat(Characteristics.perfectNumbersBetween(1, 100000), is(perfect));
+	}
+
+	/**
+	 * Checks a number for the Armstrong characteristic by summing its digit powers.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is an Armstrong number, false otherwise.
+	 */
+	private static boolean isArmstrongByDigits(long number) {
+		int digits = Long.toString(number).length();
+		long sum = 0;
+		for(long rest = number; rest > 0; rest /= 10) {
+			sum += (long) Math.pow(rest % 10, digits);
+		}
+		return sum == number;
+	}
+
+	/**
+	 * Checks a number for the perfect characteristic by summing its proper divisors.
+	 *
+	 * @param number The number to check.
+	 * @return True if the number is a perfect number, false otherwise.
+	 */
+	private static boolean isPerfectByDivisors(long number) {
+		return number > 1 && properDivisorSum(number) == number;
+	}
+
+	/**
+	 * Sums the proper divisors of a positive number.
+	 *
+	 * @param number The number.
+	 * @return The sum of the divisors smaller than the number.
+	 */
+	private static long properDivisorSum(long number) {
+		if(number == 1) {
+			return 0;
+		}
+		long sum = 1;
+		for(long i = 2; i * i <= number; i++) {
+			if(number % i == 0) {
+				sum += i;
+				if(i * i != number) {
+					sum += number / i;
+				}
+			}
+		}
+		return sum;
+	}
+}
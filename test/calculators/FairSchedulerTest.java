@@ -0,0 +1,237 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link FairScheduler} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class FairSchedulerTest {
+
+	/**
+	 * Tests the lane chosen from the estimated cost of characteristic checks.
+	 *
+	 * @param value The value to check.
+	 * @param characteristic The characteristic, or 'C' for all characteristics.
+	 * @param expensive Whether the operation is expected in the expensive lane.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideLaneTestData")
+	void testLane(double value, char characteristic, boolean expensive) {
+		long cost = characteristic == 'C' ? FairScheduler.characteristicsCost(value)
+				: FairScheduler.hasCharacteristicCost(value, characteristic);
+		assertThat(FairScheduler.lane(cost), is(expensive ? 1 : 0));
+	}
+
+	/**
+	 * Provides a stream of test data for testing lanes.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideLaneTestData() {
+		return Stream.of(
+				Arguments.of(2305843008139952128.0, 'P', false),
+				Arguments.of(4929273885928088826.0, 'A', false),
+				Arguments.of(1.0e30, 'A', true),
+				Arguments.of(1.0e59, 'A', true),
+				Arguments.of(0x1p199, 'A', true),
+				Arguments.of(0x1p200, 'A', false),
+				Arguments.of(1.0e300, 'A', false),
+				Arguments.of(1.0e30, 'P', false),
+				Arguments.of(Double.MAX_VALUE, 'P', false),
+				Arguments.of(0x1p52 * (0x1p53 - 1), 'P', true),
+				Arguments.of(0x1p52 * (0x1p53 - 3), 'P', false),
+				Arguments.of(Double.POSITIVE_INFINITY, 'P', false),
+				Arguments.of(496.0, 'C', false),
+				Arguments.of(2147483647.0, 'C', true),
+				Arguments.of(4294967296.0, 'C', false)
+		);
+	}
+
+	/**
+	 * Tests the results of operations in both lanes.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testResults() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			FairScheduler scheduler = new FairScheduler(executor, 2, 1);
+			scheduler.addTenant("a", 1, 10000);
+			assertThat(scheduler.calculate("a", 2.0, 3.0, '+').get(10, TimeUnit.SECONDS), is(5.0));
+			assertThat(scheduler.calculateAdvanced("a", 5.0, '!').get(10, TimeUnit.SECONDS), is(120.0));
+			assertThat(scheduler.hasCharacteristic("a", 8128.0, 'P').get(10, TimeUnit.SECONDS), is(true));
+			assertThat(scheduler.hasCharacteristic("a", 1.0e30, 'A').get(10, TimeUnit.SECONDS), is(false));
+			assertThat(scheduler.characteristics("a", 2147483647.0).get(10, TimeUnit.SECONDS),
+					is(Characteristics.DEFICIENT | Characteristics.PRIME));
+			CompletableFuture<Double> failed = scheduler.calculate("a", 1.0, 0.0, '/');
+			ExecutionException thrown = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+			assertThat("Messages should match", thrown.getCause().getMessage(), is("Cannot divide by zero"));
+			assertThat(scheduler.getOutstandingCost("a"), is(0L));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that tenants share a lane in proportion to their weights.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testWeightedFairShare() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		FairScheduler scheduler = new FairScheduler(submitted::add, 1, 1);
+		scheduler.addTenant("heavy", 3, 1000);
+		scheduler.addTenant("light", 1, 1000);
+		List<String> order = new ArrayList<>();
+		for(int i = 0; i < 40; i++) {
+			scheduler.calculate("light", 0.0, 1.0, '+').thenRun(() -> order.add("light"));
+		}
+		for(int i = 0; i < 40; i++) {
+			scheduler.calculate("heavy", 0.0, 1.0, '+').thenRun(() -> order.add("heavy"));
+		}
+		while(!submitted.isEmpty()) {
+			submitted.remove(0).run();
+		}
+		assertThat(order.size(), is(80));
+		long heavy = order.subList(0, 40).stream().filter("heavy"::equals).count();
+		assertThat(heavy, is(both(greaterThanOrEqualTo(29L)).and(lessThanOrEqualTo(31L))));
+		assertThat(order.subList(60, 80).stream().allMatch("light"::equals), is(true));
+	}
+
+	/**
+	 * Tests that work beyond the cost budget of a tenant is rejected
+	 * and admitted again once earlier work completes.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testAdmissionControl() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		FairScheduler scheduler = new FairScheduler(submitted::add, 1, 1);
+		scheduler.addTenant("a", 1, 10);
+		scheduler.addTenant("b", 1, 10);
+		for(int i = 0; i < 10; i++) {
+			scheduler.calculate("a", 0.0, 1.0, '+');
+		}
+		assertThat(scheduler.getOutstandingCost("a"), is(10L));
+		CompletableFuture<Double> rejected = scheduler.calculate("a", 0.0, 1.0, '+');
+		ExecutionException thrown = assertThrows(ExecutionException.class, () -> rejected.get());
+		assertThat(thrown.getCause(), instanceOf(RejectedExecutionException.class));
+		assertThat("Messages should match", thrown.getCause().getMessage(), is("Cost budget exceeded"));
+		assertThat(scheduler.hasCharacteristic("b", 1.0e30, 'A').isDone(), is(true));
+		assertThat(scheduler.calculate("b", 0.0, 1.0, '+').isDone(), is(false));
+		submitted.remove(0).run();
+		assertThat(scheduler.getOutstandingCost("a"), is(9L));
+		assertThat(scheduler.calculate("a", 0.0, 1.0, '+').isCompletedExceptionally(), is(false));
+	}
+
+	/**
+	 * Tests that cheap operations keep completing while the expensive lane is saturated
+	 * by operations that do not finish, as under an adversarial mix of requests.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testCheapLaneNotBlockedByExpensiveWork() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			FairScheduler scheduler = new FairScheduler(executor, 2, 1);
+			scheduler.addTenant("adversary", 1, Long.MAX_VALUE);
+			scheduler.addTenant("user", 1, Long.MAX_VALUE);
+			List<CompletableFuture<Boolean>> expensive = new ArrayList<>();
+			for(int i = 0; i < 100; i++) {
+				expensive.add(scheduler.submit("adversary", FairScheduler.EXPENSIVE_COST, () -> release.await(1, TimeUnit.MINUTES)));
+			}
+			List<CompletableFuture<Double>> cheap = new ArrayList<>();
+			for(int i = 0; i < 10000; i++) {
+				cheap.add(scheduler.calculate("user", i, 1.0, '+'));
+			}
+			for(int i = 0; i < cheap.size(); i++) {
+				assertThat(cheap.get(i).get(10, TimeUnit.SECONDS), is(i + 1.0));
+			}
+			assertThat(expensive.stream().filter(CompletableFuture::isDone).count(), is(0L));
+			release.countDown();
+			for(CompletableFuture<Boolean> future : expensive) {
+				assertThat(future.get(10, TimeUnit.SECONDS), is(true));
+			}
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Tests that an error thrown by an operation fails its future,
+	 * and that the operations queued behind it in the same lane still run.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testErrorInOperation() throws Exception {
+		List<Runnable> submitted = new ArrayList<>();
+		FairScheduler scheduler = new FairScheduler(submitted::add, 1, 1);
+		scheduler.addTenant("a", 1, 10);
+		CompletableFuture<Object> broken = scheduler.submit("a", 1, () -> {
+			throw new AssertionError("Broken operation");
+		});
+		CompletableFuture<Double> next = scheduler.calculate("a", 1.0, 2.0, '+');
+		submitted.remove(0).run();
+		ExecutionException thrown = assertThrows(ExecutionException.class, () -> broken.get());
+		assertThat(thrown.getCause(), instanceOf(AssertionError.class));
+		assertThat(submitted.size(), is(1));
+		submitted.remove(0).run();
+		assertThat(next.get(), is(3.0));
+		assertThat(scheduler.getOutstandingCost("a"), is(0L));
+	}
+
+	/**
+	 * Tests the argument checks.
+	 */
+	@Test
+	void testIllegalArgumentException() {
+		FairScheduler scheduler = new FairScheduler(Runnable::run, 1, 1);
+		scheduler.addTenant("a", 1, 1);
+		IllegalArgumentException parallelism = assertThrows(IllegalArgumentException.class,
+				() -> new FairScheduler(Runnable::run, 0, 1));
+		assertThat("Messages should match", parallelism.getMessage(), is("Parallelism must be positive"));
+		IllegalArgumentException weight = assertThrows(IllegalArgumentException.class, () -> scheduler.addTenant("b", 0, 1));
+		assertThat("Messages should match", weight.getMessage(), is("Weight must be positive"));
+		IllegalArgumentException budget = assertThrows(IllegalArgumentException.class, () -> scheduler.addTenant("b", 1, 0));
+		assertThat("Messages should match", budget.getMessage(), is("Cost budget must be positive"));
+		IllegalArgumentException exists = assertThrows(IllegalArgumentException.class, () -> scheduler.addTenant("a", 1, 1));
+		assertThat("Messages should match", exists.getMessage(), is("Tenant already exists"));
+		IllegalArgumentException unknown = assertThrows(IllegalArgumentException.class,
+				() -> scheduler.calculate("c", 0.0, 1.0, '+'));
+		assertThat("Messages should match", unknown.getMessage(), is("Unknown tenant"));
+	}
+}
@@ -0,0 +1,130 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link Gamma} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class GammaTest {
+
+	/**
+	 * Tests the factorial of integer values, which must match the exact factorials.
+	 *
+	 * @param value The value for which the factorial is calculated.
+	 * @param result The expected factorial.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideIntegerFactorialTestData")
+	void testIntegerFactorial(Double value, Double result) {
+		assertThat(Gamma.factorial(value), is(result));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the factorial of integer values.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideIntegerFactorialTestData() {
+		return Stream.of(
+				Arguments.of(0.0, 1.0),
+				Arguments.of(1.0, 1.0),
+				Arguments.of(5.0, 120.0),
+				Arguments.of(10.0, 3628800.0),
+				Arguments.of(20.0, 2432902008176640000.0),
+				Arguments.of(171.0, Double.POSITIVE_INFINITY),
+				Arguments.of(1.0e6, Double.POSITIVE_INFINITY)
+		);
+	}
+
+	/**
+	 * Tests the factorial of non-integer values against reference values of the gamma function.
+	 *
+	 * @param value The value for which the factorial is calculated.
+	 * @param result The expected factorial.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideRealFactorialTestData")
+	void testRealFactorial(Double value, Double result) {
+		assertThat(Gamma.factorial(value), closeTo(result, Math.abs(result) * 1e-13));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the factorial of non-integer values.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideRealFactorialTestData() {
+		return Stream.of(
+				Arguments.of(0.5, 0.886226925452758),
+				Arguments.of(4.7, 72.5276345202229),
+				Arguments.of(-0.5, 1.7724538509055159),
+				Arguments.of(-1.5, -3.544907701811032),
+				Arguments.of(-2.5, 2.3632718012073544),
+				Arguments.of(100.5, 9.367567919603132e+158),
+				Arguments.of(170.5, 9.483367566824801e+307)
+		);
+	}
+
+	/**
+	 * Tests that the factorial of a negative integer is not a number.
+	 *
+	 * @param value The negative integer.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideNegativeIntegerTestData")
+	void testNegativeIntegerFactorial(Double value) {
+		assertThat(Double.isNaN(Gamma.factorial(value)), is(true));
+	}
+
+	/**
+	 * Provides a stream of test data for testing the factorial of negative integers.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideNegativeIntegerTestData() {
+		return Stream.of(
+				Arguments.of(-1.0),
+				Arguments.of(-2.0),
+				Arguments.of(-100.0),
+				Arguments.of(Double.NaN)
+		);
+	}
+
+	/**
+	 * Tests that the bulk factorial matches the factorial of each element.
+	 */
+	@Test
+	void testBulkFactorial() {
+		double[] values = {0.0, 0.5, 3.0, 4.7, 9.9};
+		double[] results = new double[values.length];
+		Gamma.factorial(values, results);
+		for(int i = 0; i < values.length; i++) {
+			assertThat(results[i], is(Gamma.factorial(values[i])));
+		}
+	}
+
+	/**
+	 * Tests that the bulk factorial rejects arrays of different lengths.
+	 */
+	@Test
+	void testBulkFactorialLengthMismatch() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> Gamma.factorial(new double[2], new double[3]));
+		assertThat("Messages should match", exception.getMessage(), is("Arrays must have the same length"));
+	}
+}
@@ -0,0 +1,167 @@
+package calculators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import extensions.AllocationBudget;
+import extensions.AllocationMeter;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link ResultFormat} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class ResultFormatTest {
+
+	/**
+	 * Tests that doubles are written as {@link Double#toString(double)} writes them,
+	 * into arrays, heap buffers and direct buffers, without allocating.
+	 *
+	 * @param value The value to write.
+	 * @param text The expected text.
+	 * @param meter The allocation meter.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideFormatTestData")
+	@AllocationBudget(bytes = 0)
+	void testFormat(double value, String text, AllocationMeter meter) throws Exception {
+		assertThat(Double.toString(value), is(text));
+		byte[] array = new byte[ResultFormat.MAX_LENGTH + 2];
+		int length = ResultFormat.format(value, array, 2);
+		assertThat(new String(array, 2, length, StandardCharsets.US_ASCII), is(text));
+		ByteBuffer heap = ByteBuffer.allocate(ResultFormat.MAX_LENGTH + 1);
+		ByteBuffer direct = ByteBuffer.allocateDirect(ResultFormat.MAX_LENGTH + 1);
+		for(ByteBuffer buffer : new ByteBuffer[] {heap, direct}) {
+			buffer.put((byte) '=');
+			assertThat(ResultFormat.format(value, buffer), is(text.length()));
+			assertThat(buffer.position(), is(text.length() + 1));
+			buffer.flip().get();
+			byte[] written = new byte[buffer.remaining()];
+			buffer.get(written);
+			assertThat(new String(written, StandardCharsets.US_ASCII), is(text));
+		}
+		meter.measure(() -> {
+			ResultFormat.format(value, array, 0);
+			ResultFormat.format(value, heap.clear());
+			ResultFormat.format(value, direct.clear());
+		});
+	}
+
+	/**
+	 * Provides a stream of test data for testing the format of doubles.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideFormatTestData() {
+		return Stream.of(
+				Arguments.of(0.0, "0.0"),
+				Arguments.of(-0.0, "-0.0"),
+				Arguments.of(1.0, "1.0"),
+				Arguments.of(-3628800.0, "-3628800.0"),
+				Arguments.of(9999999.0, "9999999.0"),
+				Arguments.of(1.0E7, "1.0E7"),
+				Arguments.of(0.1 + 0.2, "0.30000000000000004"),
+				Arguments.of(123456.789, "123456.789"),
+				Arguments.of(0.001, "0.001"),
+				Arguments.of(0.0012345, "0.0012345"),
+				Arguments.of(1.0E-4, "1.0E-4"),
+				Arguments.of(-1.5E-10, "-1.5E-10"),
+				Arguments.of(2.43290200817664E18, "2.43290200817664E18"),
+				Arguments.of(Double.MAX_VALUE, "1.7976931348623157E308"),
+				Arguments.of(-Double.MIN_NORMAL, "-2.2250738585072014E-308"),
+				Arguments.of(Double.MIN_VALUE, "4.9E-324"),
+				Arguments.of(2.0E-323, "2.0E-323"),
+				Arguments.of(Double.NaN, "NaN"),
+				Arguments.of(Double.POSITIVE_INFINITY, "Infinity"),
+				Arguments.of(Double.NEGATIVE_INFINITY, "-Infinity")
+		);
+	}
+
+	/**
+	 * Tests random doubles over the whole range: the text always converts back to the same double,
+	 * and is never longer than {@link Double#toString(double)}. Older JDKs write some values with more digits
+	 * than needed, or with a last digit further from the double; otherwise the texts are equal.
+	 */
+	@Test
+	void testRoundTrip() {
+		Random random = new Random(42);
+		byte[] array = new byte[ResultFormat.MAX_LENGTH];
+		for(int i = 0; i < 200000; i++) {
+			double value = i % 2 == 0
+					? Double.longBitsToDouble(random.nextLong())
+					: random.nextDouble() * Math.pow(10, random.nextInt(24) - 8);
+			String text = new String(array, 0, ResultFormat.format(value, array, 0), StandardCharsets.US_ASCII);
+			String expected = Double.toString(value);
+			if(Double.isNaN(value)) {
+				assertThat(text, is(expected));
+				continue;
+			}
+			assertThat(Double.parseDouble(text), is(value));
+			assertThat(text.length(), lessThanOrEqualTo(expected.length()));
+			if(text.length() == expected.length() && !text.equals(expected)) {
+				BigDecimal exact = new BigDecimal(value);
+				BigDecimal error = new BigDecimal(text).subtract(exact).abs();
+				assertThat(error.compareTo(new BigDecimal(expected).subtract(exact).abs()), lessThanOrEqualTo(0));
+			}
+		}
+	}
+
+	/**
+	 * Tests writing booleans and the current value of a calculator.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testFormatResults() throws Exception {
+		byte[] array = new byte[16];
+		int length = ResultFormat.format(true, array, 0);
+		length += ResultFormat.format(false, array, length);
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		calculator.setCurrentValue(5.0);
+		calculator.calculateAdvanced('!');
+		length += ResultFormat.formatCurrentValue(calculator, array, length);
+		assertThat(new String(array, 0, length, StandardCharsets.US_ASCII), is("truefalse120.0"));
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		ResultFormat.format(calculator.hasCharacteristic('P'), buffer);
+		ResultFormat.formatCurrentValue(calculator, buffer);
+		assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII), is("false120.0"));
+	}
+
+	/**
+	 * Tests that text that does not fit is not written.
+	 */
+	@Test
+	void testBufferTooSmall() {
+		byte[] array = new byte[8];
+		IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+				() -> ResultFormat.format(0.30000000000000004, array, 0));
+		assertThat("Messages should match", thrown.getMessage(), is("Buffer too small"));
+		assertThat(array[0], is((byte) 0));
+		assertThrows(IllegalArgumentException.class, () -> ResultFormat.format(false, array, 4));
+		assertThat(ResultFormat.format(1.5, array, 5), is(3));
+		ByteBuffer heap = ByteBuffer.allocate(8);
+		ByteBuffer direct = ByteBuffer.allocateDirect(8);
+		for(ByteBuffer buffer : new ByteBuffer[] {heap, direct}) {
+			assertThrows(BufferOverflowException.class, () -> ResultFormat.format(Double.MAX_VALUE, buffer));
+			assertThat(buffer.position(), is(0));
+		}
+	}
+}
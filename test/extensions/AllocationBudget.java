@@ -0,0 +1,33 @@
+package extensions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Limits the number of bytes a hot path may allocate per call.
+ * A test annotated with {@code @AllocationBudget} receives an {@link AllocationMeter} parameter
+ * and passes the hot path to {@link AllocationMeter#measure(AllocationMeter.HotPath)},
+ * which fails the test when the warmed-up hot path allocates more than the budget.
+ * The test also fails if it never measures a hot path.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@ExtendWith(AllocationBudgetExtension.class)
+public @interface AllocationBudget {
+	/**
+	 * The largest number of bytes the hot path may allocate per call.
+	 *
+	 * @return the budget in bytes
+	 */
+	long bytes() default 0;
+}
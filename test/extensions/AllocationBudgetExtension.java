@@ -0,0 +1,65 @@
+package extensions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * The JUnit 5 extension behind the {@link AllocationBudget} annotation.
+ * It provides the {@link AllocationMeter} parameter of a test with the budget of the annotation
+ * and checks after the test that the meter was used.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class AllocationBudgetExtension implements ParameterResolver, AfterEachCallback {
+	/**
+	 * The namespace under which the meter of a test is stored.
+	 */
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(AllocationBudgetExtension.class);
+
+	/**
+	 * Checks if a parameter is the allocation meter.
+	 *
+	 * @param parameterContext The parameter.
+	 * @param extensionContext The test.
+	 * @return True if the parameter is an {@link AllocationMeter}, false otherwise.
+	 */
+	@Override
+	public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		return parameterContext.getParameter().getType() == AllocationMeter.class;
+	}
+
+	/**
+	 * Creates the allocation meter of a test with the budget of its annotation.
+	 *
+	 * @param parameterContext The parameter.
+	 * @param extensionContext The test.
+	 * @return The allocation meter.
+	 */
+	@Override
+	public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+		AllocationBudget budget = extensionContext.getRequiredTestMethod().getAnnotation(AllocationBudget.class);
+		AllocationMeter meter = new AllocationMeter(budget.bytes());
+		extensionContext.getStore(NAMESPACE).put(AllocationMeter.class, meter);
+		return meter;
+	}
+
+	/**
+	 * Fails a test that did not measure a hot path.
+	 *
+	 * @param extensionContext The test.
+	 */
+	@Override
+	public void afterEach(ExtensionContext extensionContext) {
+		if(extensionContext.getExecutionException().isPresent()) {
+			return;
+		}
+		AllocationMeter meter = extensionContext.getStore(NAMESPACE).get(AllocationMeter.class, AllocationMeter.class);
+		assertTrue(meter != null && meter.isMeasured(), "No hot path was measured");
+	}
+}
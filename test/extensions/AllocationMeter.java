@@ -0,0 +1,119 @@
+package extensions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Assumptions;
+
+/**
+ * Measures the bytes allocated by the current thread while it runs a hot path.
+ * The hot path is run in rounds of {@link #ITERATIONS} calls, so that the JIT compiler
+ * can compile it and remove allocations it can prove unnecessary. The bytes of a whole round
+ * are compared with the budget of all its calls, so occasional allocations are not rounded away.
+ * The test passes once {@link #PASSING_ROUNDS} rounds in a row stay within the budget
+ * and fails if that does not happen within {@link #ROUNDS} rounds.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class AllocationMeter {
+	/**
+	 * The number of calls in one round.
+	 */
+	private static final int ITERATIONS = 10_000;
+
+	/**
+	 * The largest number of rounds.
+	 */
+	private static final int ROUNDS = 30;
+
+	/**
+	 * The number of rounds in a row that must stay within the budget.
+	 */
+	private static final int PASSING_ROUNDS = 3;
+
+	/**
+	 * The largest number of bytes the hot path may allocate per call.
+	 */
+	private final long budget;
+
+	/**
+	 * Whether a hot path was measured.
+	 */
+	private boolean measured;
+
+	/**
+	 * A piece of code whose allocations are measured.
+	 */
+	@FunctionalInterface
+	public interface HotPath {
+		/**
+		 * Runs the code once.
+		 *
+		 * @throws Exception if the code throws an exception
+		 */
+		void run() throws Exception;
+	}
+
+	/**
+	 * Constructs a new meter.
+	 *
+	 * @param budget The largest number of bytes the hot path may allocate per call.
+	 */
+	AllocationMeter(long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Checks if a hot path was measured.
+	 *
+	 * @return True if a hot path was measured, false otherwise.
+	 */
+	boolean isMeasured() {
+		return measured;
+	}
+
+	/**
+	 * Runs a hot path until it is warmed up and fails if it allocates more than the budget per call.
+	 * The test is skipped when the JVM cannot measure the allocations of a thread.
+	 *
+	 * @param hotPath The code to measure.
+	 * @throws Exception if the hot path throws an exception
+	 */
+	public void measure(HotPath hotPath) throws Exception {
+		com.sun.management.ThreadMXBean threads = threads();
+		measured = true;
+		long best = Long.MAX_VALUE;
+		int passed = 0;
+		for(int round = 0; round < ROUNDS; round++) {
+			long before = threads.getCurrentThreadAllocatedBytes();
+			for(int i = 0; i < ITERATIONS; i++) {
+				hotPath.run();
+			}
+			long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+			best = Math.min(best, allocated);
+			passed = allocated <= budget * ITERATIONS ? passed + 1 : 0;
+			if(passed == PASSING_ROUNDS) {
+				return;
+			}
+		}
+		fail("Hot path allocated " + (double) best / ITERATIONS + " bytes per call, the budget is " + budget + " bytes");
+	}
+
+	/**
+	 * Gets the thread management bean, skipping the test if it cannot measure allocations.
+	 *
+	 * @return the thread management bean
+	 */
+	private static com.sun.management.ThreadMXBean threads() {
+		java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(threads instanceof com.sun.management.ThreadMXBean,
+				"Thread allocation measurement is not available");
+		com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+		Assumptions.assumeTrue(allocations.isThreadAllocatedMemorySupported()
+				&& allocations.isThreadAllocatedMemoryEnabled(), "Thread allocation measurement is not enabled");
+		return allocations;
+	}
+}
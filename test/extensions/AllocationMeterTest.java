@@ -0,0 +1,55 @@
+package extensions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link AllocationMeter} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class AllocationMeterTest {
+	/**
+	 * A field the hot paths store into, so their allocations cannot be removed.
+	 */
+	private Object sink;
+
+	/**
+	 * A counter of the calls of the hot paths.
+	 */
+	private int calls;
+
+	/**
+	 * Tests that a hot path allocating on only one call in 1024 fails a zero budget,
+	 * even though it allocates less than one byte per call on average.
+	 */
+	@Test
+	void testOccasionalAllocationFails() {
+		AllocationMeter meter = new AllocationMeter(0);
+		AssertionFailedError thrown = assertThrows(AssertionFailedError.class, () -> meter.measure(() -> {
+			if((++calls & 1023) == 0) {
+				sink = new long[1];
+			}
+		}));
+		assertThat(thrown.getMessage(), startsWith("Hot path allocated"));
+	}
+
+	/**
+	 * Tests that a hot path allocating within its budget passes.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testWithinBudgetPasses() throws Exception {
+		AllocationMeter meter = new AllocationMeter(64);
+		meter.measure(() -> sink = new long[1]);
+		assertTrue(meter.isMeasured());
+	}
+}
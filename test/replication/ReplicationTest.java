@@ -0,0 +1,237 @@
+package replication;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link ReplicationPublisher}, {@link ReplicationFollower}
+ * and {@link ReplicatedCalculator} classes. The follower maps the ring file separately
+ * from the publisher, as a follower process would.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class ReplicationTest {
+	/**
+	 * The directory of the ring and snapshot files.
+	 */
+	@TempDir
+	Path directory;
+
+	/**
+	 * Tests that the follower mirrors every operation of several sessions.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testFollowerMirrorsSessions() throws Exception {
+		Path ring = directory.resolve("ring");
+		try(ReplicationPublisher publisher = new ReplicationPublisher(ring, 64);
+				ReplicationFollower follower = new ReplicationFollower(ring, null)) {
+			ReplicatedCalculator first = new ReplicatedCalculator(1, publisher);
+			ReplicatedCalculator second = new ReplicatedCalculator(2, publisher);
+			first.setCurrentValue(3.0);
+			first.calculateAdvanced('3');
+			second.calculate(7.0, '+');
+			assertThat(follower.poll(), is(3));
+			first.calculate(2.0, '-');
+			first.undo();
+			second.calculateAdvanced('!');
+			assertThat(follower.poll(), is(3));
+			assertThat(follower.poll(), is(0));
+			assertThat(follower.getCalculator(1).getCurrentValue(), is(27.0));
+			assertThat(follower.getCalculator(2).getCurrentValue(), is(5040.0));
+			assertThat(follower.getCalculator(3), is(nullValue()));
+			assertThat(follower.getSequence(), is(publisher.getSequence()));
+			assertThat(follower.getGaps(), is(0L));
+			assertThat(follower.getDivergences(), is(0L));
+		}
+	}
+
+	/**
+	 * Tests that failed operations are not published.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testFailedOperationIsNotPublished() throws Exception {
+		Path ring = directory.resolve("ring");
+		try(ReplicationPublisher publisher = new ReplicationPublisher(ring, 8)) {
+			ReplicatedCalculator calculator = new ReplicatedCalculator(1, publisher);
+			assertThrows(Exception.class, () -> calculator.calculate(0.0, '/'));
+			assertThrows(Exception.class, () -> calculator.calculateAdvanced('x'));
+			assertThat(publisher.getSequence(), is(0L));
+		}
+	}
+
+	/**
+	 * Tests that the published result is taken when the follower calculates a different one.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testDivergentResultIsTaken() throws Exception {
+		Path ring = directory.resolve("ring");
+		try(ReplicationPublisher publisher = new ReplicationPublisher(ring, 8);
+				ReplicationFollower follower = new ReplicationFollower(ring, null)) {
+			publisher.publishCalculate(1, '+', 0.1, 0.1);
+			publisher.publishCalculate(1, '+', 0.2, 0.3);
+			follower.poll();
+			assertThat(follower.getCalculator(1).getCurrentValue(), is(0.3));
+			assertThat(follower.getDivergences(), is(1L));
+		}
+	}
+
+	/**
+	 * Tests that a follower that fell behind by more than the ring capacity
+	 * catches up from the snapshot when it is new enough.
+	 *
+	 * @param operations The number of operations published before the follower polls.
+	 * @param snapshotAt The number of operations after which the snapshot is written, or -1 for none.
+	 * @param gaps The expected number of gaps.
+	 * @param sequence The expected sequence number of the follower.
+	 * @param value The expected value of the follower, or null if it has no calculator.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@MethodSource("provideCatchUpTestData")
+	void testCatchUp(int operations, int snapshotAt, long gaps, long sequence, Double value) throws Exception {
+		Path ring = directory.resolve("ring");
+		Path snapshot = directory.resolve("snapshot");
+		try(ReplicationPublisher publisher = new ReplicationPublisher(ring, 16);
+				ReplicationFollower follower = new ReplicationFollower(ring, snapshot)) {
+			Map<Integer, ReplicatedCalculator> sessions = new HashMap<>();
+			ReplicatedCalculator calculator = new ReplicatedCalculator(4, publisher);
+			sessions.put(4, calculator);
+			for(int i = 0; i <= operations; i++) {
+				if(i == snapshotAt) {
+					publisher.writeSnapshot(snapshot, sessions);
+				}
+				if(i < operations) {
+					calculator.calculate(1.0, '+');
+				}
+			}
+			follower.poll();
+			assertThat(follower.getGaps(), is(gaps));
+			assertThat(follower.getSequence(), is(sequence));
+			if(value == null) {
+				assertThat(follower.getCalculator(4), is(nullValue()));
+			} else {
+				assertThat(follower.getCalculator(4).getCurrentValue(), is(value));
+			}
+		}
+	}
+
+	/**
+	 * Provides a stream of test data for testing catch up.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideCatchUpTestData() {
+		return Stream.of(
+				Arguments.of(16, -1, 0L, 16L, 16.0),
+				Arguments.of(40, 30, 1L, 40L, 40.0),
+				Arguments.of(40, 40, 1L, 40L, 40.0),
+				Arguments.of(40, 20, 1L, 20L, 20.0),
+				Arguments.of(40, -1, 0L, 0L, null)
+		);
+	}
+
+	/**
+	 * Tests that a torn read of an overwritten record is detected as a gap.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testOverwrittenRecordIsGap() throws Exception {
+		Path ring = directory.resolve("ring");
+		Path snapshot = directory.resolve("snapshot");
+		try(ReplicationPublisher publisher = new ReplicationPublisher(ring, 4);
+				ReplicationFollower follower = new ReplicationFollower(ring, snapshot)) {
+			ReplicatedCalculator calculator = new ReplicatedCalculator(1, publisher);
+			calculator.setCurrentValue(1.0);
+			assertThat(follower.poll(), is(1));
+			for(int i = 0; i < 6; i++) {
+				calculator.calculate(2.0, '*');
+			}
+			publisher.writeSnapshot(snapshot, Map.of(1, calculator));
+			calculator.calculate(1.0, '+');
+			assertThat(follower.poll(), is(1));
+			assertThat(follower.getGaps(), is(1L));
+			assertThat(follower.getCalculator(1).getCurrentValue(), is(65.0));
+		}
+	}
+
+	/**
+	 * Tests that catching up from a snapshot drops the sessions closed on the primary.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testCatchUpDropsClosedSessions() throws Exception {
+		Path ring = directory.resolve("ring");
+		Path snapshot = directory.resolve("snapshot");
+		try(ReplicationPublisher publisher = new ReplicationPublisher(ring, 4);
+				ReplicationFollower follower = new ReplicationFollower(ring, snapshot)) {
+			ReplicatedCalculator open = new ReplicatedCalculator(1, publisher);
+			ReplicatedCalculator closed = new ReplicatedCalculator(2, publisher);
+			open.setCurrentValue(1.0);
+			closed.setCurrentValue(2.0);
+			assertThat(follower.poll(), is(2));
+			for(int i = 0; i < 6; i++) {
+				open.calculate(1.0, '+');
+			}
+			publisher.writeSnapshot(snapshot, Map.of(1, open));
+			follower.poll();
+			assertThat(follower.getGaps(), is(1L));
+			assertThat(follower.getCalculator(1).getCurrentValue(), is(7.0));
+			assertThat(follower.getCalculator(2), is(nullValue()));
+		}
+	}
+
+	/**
+	 * Tests the argument checks.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testInvalidArguments() throws Exception {
+		Path ring = directory.resolve("ring");
+		IllegalArgumentException capacity = assertThrows(IllegalArgumentException.class,
+				() -> new ReplicationPublisher(ring, 12));
+		assertThat("Messages should match", capacity.getMessage(), is("Capacity must be a power of two"));
+		IllegalArgumentException publisher = assertThrows(IllegalArgumentException.class,
+				() -> new ReplicatedCalculator(1, null));
+		assertThat("Messages should match", publisher.getMessage(), is("Publisher cannot be null"));
+		Files.write(ring, new byte[256]);
+		IOException magic = assertThrows(IOException.class, () -> new ReplicationFollower(ring, null));
+		assertThat("Messages should match", magic.getMessage(), is("Not a replication ring"));
+		new ReplicationPublisher(ring, 16).close();
+		try(FileChannel channel = FileChannel.open(ring, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(4).order(ByteOrder.nativeOrder()).putInt(0, 12), RingLayout.CAPACITY_OFFSET);
+		}
+		IOException header = assertThrows(IOException.class, () -> new ReplicationFollower(ring, null));
+		assertThat("Messages should match", header.getMessage(), is("Capacity must be a power of two"));
+	}
+}
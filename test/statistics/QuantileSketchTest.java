@@ -0,0 +1,124 @@
+package statistics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link QuantileSketch} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class QuantileSketchTest {
+
+	/**
+	 * Tests that quantiles are within the relative accuracy of the exact quantiles,
+	 * for values spread over many orders of magnitude and of both signs.
+	 *
+	 * @param accuracy The relative accuracy of the sketch.
+	 * @param seed The seed of the random values.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideAccuracyTestData")
+	void testQuantileAccuracy(double accuracy, long seed) {
+		Random random = new Random(seed);
+		double[] values = new double[10000];
+		QuantileSketch sketch = new QuantileSketch(accuracy);
+		for(int i = 0; i < values.length; i++) {
+			values[i] = (random.nextBoolean() ? 1 : -1) * Math.exp(random.nextGaussian() * 50);
+			sketch.add(values[i]);
+		}
+		Arrays.sort(values);
+		for(double quantile : new double[] {0.0, 0.01, 0.25, 0.5, 0.75, 0.99, 1.0}) {
+			double exact = values[(int) (quantile * (values.length - 1))];
+			assertThat(sketch.quantile(quantile), closeTo(exact, Math.abs(exact) * accuracy));
+		}
+	}
+
+	/**
+	 * Provides a stream of test data for testing the accuracy.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideAccuracyTestData() {
+		return Stream.of(
+				Arguments.of(0.01, 1L),
+				Arguments.of(0.001, 2L),
+				Arguments.of(0.1, 3L)
+		);
+	}
+
+	/**
+	 * Tests that merged sketches answer like one sketch of all values,
+	 * and that removing values undoes adding them.
+	 */
+	@Test
+	void testMergeAndRemove() {
+		QuantileSketch all = new QuantileSketch();
+		QuantileSketch first = new QuantileSketch();
+		QuantileSketch second = new QuantileSketch();
+		for(int i = -500; i <= 1500; i++) {
+			all.add(i);
+			(i % 3 == 0 ? first : second).add(i);
+		}
+		first.merge(second);
+		assertThat(first.getCount(), is(2001L));
+		for(double quantile = 0.0; quantile <= 1.0; quantile += 0.125) {
+			assertThat(first.quantile(quantile), is(all.quantile(quantile)));
+		}
+		for(int i = 1000; i <= 1500; i++) {
+			first.remove(i);
+		}
+		assertThat(first.getCount(), is(1500L));
+		assertThat(first.quantile(1.0), closeTo(999.0, 999.0 * 0.01));
+		assertThat(first.quantile(0.0), closeTo(-500.0, 500.0 * 0.01));
+		first.clear();
+		assertThat(first.getCount(), is(0L));
+		assertThat(Double.isNaN(first.quantile(0.5)), is(true));
+	}
+
+	/**
+	 * Tests zeros and the extremes of the double range.
+	 */
+	@Test
+	void testExtremeValues() {
+		QuantileSketch sketch = new QuantileSketch();
+		sketch.add(0.0);
+		sketch.add(Double.MAX_VALUE);
+		sketch.add(-Double.MAX_VALUE);
+		sketch.add(Double.MIN_VALUE);
+		assertThat(sketch.quantile(0.0), closeTo(-Double.MAX_VALUE, Double.MAX_VALUE * 0.01));
+		assertThat(sketch.quantile(1.0 / 3), is(0.0));
+		assertThat(sketch.quantile(1.0), closeTo(Double.MAX_VALUE, Double.MAX_VALUE * 0.01));
+	}
+
+	/**
+	 * Tests the argument checks.
+	 */
+	@Test
+	void testIllegalArgumentException() {
+		QuantileSketch sketch = new QuantileSketch();
+		IllegalArgumentException accuracy = assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1.0));
+		assertThat("Messages should match", accuracy.getMessage(), is("Accuracy must be between 0 and 1"));
+		IllegalArgumentException value = assertThrows(IllegalArgumentException.class, () -> sketch.add(Double.NaN));
+		assertThat("Messages should match", value.getMessage(), is("Value must be finite"));
+		IllegalArgumentException quantile = assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+		assertThat("Messages should match", quantile.getMessage(), is("Quantile must be between 0 and 1"));
+		IllegalArgumentException merge = assertThrows(IllegalArgumentException.class,
+				() -> sketch.merge(new QuantileSketch(0.02)));
+		assertThat("Messages should match", merge.getMessage(), is("Sketches must have the same accuracy"));
+	}
+}
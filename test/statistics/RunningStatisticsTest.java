@@ -0,0 +1,89 @@
+package statistics;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link RunningStatistics} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class RunningStatisticsTest {
+
+	/**
+	 * Tests the statistics of a list of values, recorded at once and split in two merged parts.
+	 *
+	 * @param values The values.
+	 * @param mean The expected mean.
+	 * @param variance The expected population variance.
+	 * @param min The expected minimum.
+	 * @param max The expected maximum.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideStatisticsTestData")
+	void testStatistics(double[] values, double mean, double variance, double min, double max) {
+		RunningStatistics all = new RunningStatistics();
+		RunningStatistics first = new RunningStatistics();
+		RunningStatistics second = new RunningStatistics();
+		for(int i = 0; i < values.length; i++) {
+			all.record(values[i]);
+			(i < values.length / 2 ? first : second).record(values[i]);
+		}
+		first.merge(second);
+		for(RunningStatistics statistics : new RunningStatistics[] {all, first}) {
+			assertThat(statistics.getCount(), is((long) values.length));
+			assertThat(statistics.getMean(), closeTo(mean, Math.abs(mean) * 1e-15));
+			assertThat(statistics.getVariance(), closeTo(variance, variance * 1e-9));
+			assertThat(statistics.getMin(), is(min));
+			assertThat(statistics.getMax(), is(max));
+		}
+	}
+
+	/**
+	 * Provides a stream of test data for testing the statistics.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideStatisticsTestData() {
+		return Stream.of(
+				Arguments.of(new double[] {2, 4, 4, 4, 5, 5, 7, 9}, 5.0, 4.0, 2.0, 9.0),
+				Arguments.of(new double[] {1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16}, 1e9 + 10, 22.5, 1e9 + 4, 1e9 + 16),
+				Arguments.of(new double[] {-3.5}, -3.5, 0.0, -3.5, -3.5)
+		);
+	}
+
+	/**
+	 * Tests that infinite and NaN values are counted but left out of the statistics,
+	 * and that empty statistics report NaN.
+	 */
+	@Test
+	void testNonFiniteAndEmpty() {
+		RunningStatistics statistics = new RunningStatistics();
+		assertThat(Double.isNaN(statistics.getMean()), is(true));
+		assertThat(Double.isNaN(statistics.getMin()), is(true));
+		assertThat(Double.isNaN(statistics.getQuantile(0.5)), is(true));
+		statistics.record(Double.POSITIVE_INFINITY);
+		statistics.record(Double.NaN);
+		statistics.record(10.0);
+		statistics.record(20.0);
+		assertThat(statistics.getCount(), is(2L));
+		assertThat(statistics.getNonFiniteCount(), is(2L));
+		assertThat(statistics.getMean(), is(15.0));
+		assertThat(statistics.getStandardDeviation(), is(5.0));
+		assertThat(statistics.getQuantile(1.0), closeTo(20.0, 0.2));
+		statistics.clear();
+		assertThat(statistics.getCount(), is(0L));
+		assertThat(statistics.getNonFiniteCount(), is(0L));
+		assertThat(Double.isNaN(statistics.getMax()), is(true));
+	}
+}
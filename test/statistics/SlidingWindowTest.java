@@ -0,0 +1,102 @@
+package statistics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link SlidingWindow} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class SlidingWindowTest {
+
+	/**
+	 * Tests the window after every value against statistics recomputed from the last values.
+	 *
+	 * @param length The window length.
+	 * @param seed The seed of the random values.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideWindowTestData")
+	void testMatchesRecomputed(int length, long seed) {
+		Random random = new Random(seed);
+		double[] values = new double[2000];
+		SlidingWindow window = new SlidingWindow(length);
+		for(int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt(5) == 0 ? Double.NaN : 1000 + random.nextGaussian() * 100;
+			window.record(values[i]);
+			double[] last = Arrays.stream(Arrays.copyOfRange(values, Math.max(0, i - length + 1), i + 1))
+					.filter(Double::isFinite).toArray();
+			assertThat(window.getSize(), is(Math.min(i + 1, length)));
+			assertThat(window.getCount(), is((long) last.length));
+			if(last.length == 0) {
+				assertThat(Double.isNaN(window.getMin()), is(true));
+				continue;
+			}
+			double mean = Arrays.stream(last).average().getAsDouble();
+			double variance = Arrays.stream(last).map(v -> (v - mean) * (v - mean)).sum() / last.length;
+			assertThat(window.getMean(), closeTo(mean, 1e-9));
+			assertThat(window.getVariance(), closeTo(variance, 1e-6));
+			assertThat(window.getMin(), is(Arrays.stream(last).min().getAsDouble()));
+			assertThat(window.getMax(), is(Arrays.stream(last).max().getAsDouble()));
+			Arrays.sort(last);
+			double median = last[(last.length - 1) / 2];
+			assertThat(window.getQuantile(0.5), closeTo(median, median * 0.01));
+		}
+	}
+
+	/**
+	 * Provides a stream of test data for testing the window.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideWindowTestData() {
+		return Stream.of(
+				Arguments.of(1, 1L),
+				Arguments.of(7, 2L),
+				Arguments.of(100, 3L)
+		);
+	}
+
+	/**
+	 * Tests a window over monotonic values, where the deques keep one or all values.
+	 */
+	@Test
+	void testMonotonicValues() {
+		SlidingWindow window = new SlidingWindow(3);
+		for(int i = 1; i <= 10; i++) {
+			window.accept(i);
+		}
+		assertThat(window.getMin(), is(8.0));
+		assertThat(window.getMax(), is(10.0));
+		for(int i = 10; i >= 1; i--) {
+			window.accept(i);
+		}
+		assertThat(window.getMin(), is(1.0));
+		assertThat(window.getMax(), is(3.0));
+		assertThat(window.getMean(), is(2.0));
+	}
+
+	/**
+	 * Tests the argument check.
+	 */
+	@Test
+	void testIllegalArgumentException() {
+		IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> new SlidingWindow(0));
+		assertThat("Messages should match", thrown.getMessage(), is("Window length must be positive"));
+	}
+}
@@ -0,0 +1,165 @@
+package statistics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import calculators.Calculator;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit tests for the {@link WindowedStatistics} class.
+ *
+ * @author Tamara Kosovac
+ * @version 1.0
+ * @since 2026-10-19
+ */
+class WindowedStatisticsTest {
+
+	/**
+	 * Tests that values from many threads are all counted in the windows.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testRecordFromManyThreads() throws Exception {
+		WindowedStatistics statistics = new WindowedStatistics(60000, 4, 0.01, () -> 0L);
+		Thread[] threads = new Thread[8];
+		for(int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for(int i = 1; i <= 10000; i++) {
+					statistics.record(i);
+				}
+			});
+			threads[t].start();
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+		RunningStatistics sliding = statistics.sliding();
+		assertThat(sliding.getCount(), is(80000L));
+		assertThat(sliding.getMean(), is(5000.5));
+		assertThat(sliding.getMin(), is(1.0));
+		assertThat(sliding.getMax(), is(10000.0));
+		assertThat(statistics.tumbling().getCount(), is(80000L));
+	}
+
+	/**
+	 * Tests that reading the windows while threads record neither loses nor double counts values,
+	 * as the readers detach the panes the threads record into.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testReadWhileRecording() throws Exception {
+		WindowedStatistics statistics = new WindowedStatistics(60000, 4, 0.01, () -> 0L);
+		Thread[] threads = new Thread[4];
+		for(int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				for(int i = 1; i <= 100000; i++) {
+					statistics.record(i);
+				}
+			});
+			threads[t].start();
+		}
+		long previous = 0;
+		boolean recording = true;
+		while(recording) {
+			recording = false;
+			for(Thread thread : threads) {
+				recording |= thread.isAlive();
+			}
+			long count = statistics.sliding().getCount();
+			assertTrue(count >= previous, "Count should not decrease");
+			previous = count;
+		}
+		RunningStatistics sliding = statistics.sliding();
+		assertThat(sliding.getCount(), is(400000L));
+		assertThat(sliding.getMean(), closeTo(50000.5, 1e-6));
+		assertThat(sliding.getMax(), is(100000.0));
+		assertThat(statistics.tumbling().getCount(), is(400000L));
+	}
+
+	/**
+	 * Tests which values are in the tumbling and sliding windows as time moves on.
+	 *
+	 * @param now The time of reading.
+	 * @param tumbling The expected count of the tumbling window.
+	 * @param sliding The expected count of the sliding window.
+	 * @param slidingMax The expected maximum of the sliding window.
+	 */
+	@ParameterizedTest
+	@MethodSource("provideWindowTestData")
+	void testWindows(long now, long tumbling, long sliding, double slidingMax) {
+		AtomicLong clock = new AtomicLong();
+		WindowedStatistics statistics = new WindowedStatistics(10, 3, 0.01, clock::get);
+		for(long time = 0; time < 50; time++) {
+			clock.set(time);
+			statistics.record(time);
+		}
+		clock.set(now);
+		assertThat(statistics.tumbling().getCount(), is(tumbling));
+		RunningStatistics window = statistics.sliding();
+		assertThat(window.getCount(), is(sliding));
+		if(sliding > 0) {
+			assertThat(window.getMax(), is(slidingMax));
+		}
+	}
+
+	/**
+	 * Provides a stream of test data for testing the windows.
+	 *
+	 * @return A stream of object arrays.
+	 */
+	private static Stream<Arguments> provideWindowTestData() {
+		return Stream.of(
+				Arguments.of(49L, 10L, 30L, 49.0),
+				Arguments.of(55L, 0L, 20L, 49.0),
+				Arguments.of(65L, 0L, 10L, 49.0),
+				Arguments.of(75L, 0L, 0L, 0.0)
+		);
+	}
+
+	/**
+	 * Tests subscribing the statistics to the results of calculators.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	void testSubscribeToCalculators() throws Exception {
+		WindowedStatistics statistics = new WindowedStatistics(60000, 1, 0.01, () -> 0L);
+		for(int c = 1; c <= 3; c++) {
+			Calculator calculator = new Calculator();
+			calculator.setResultListener(statistics);
+			calculator.setCurrentValue((double) c);
+			calculator.calculate(10.0, '*');
+		}
+		RunningStatistics window = statistics.tumbling();
+		assertThat(window.getCount(), is(6L));
+		assertThat(window.getMean(), is(11.0));
+		assertThat(window.getMax(), is(30.0));
+	}
+
+	/**
+	 * Tests the argument checks.
+	 */
+	@Test
+	void testIllegalArgumentException() {
+		IllegalArgumentException pane = assertThrows(IllegalArgumentException.class, () -> new WindowedStatistics(0, 1));
+		assertThat("Messages should match", pane.getMessage(), is("Pane length must be positive"));
+		IllegalArgumentException panes = assertThrows(IllegalArgumentException.class, () -> new WindowedStatistics(1, 0));
+		assertThat("Messages should match", panes.getMessage(), is("Number of panes must be positive"));
+		IllegalArgumentException window = assertThrows(IllegalArgumentException.class,
+				() -> new WindowedStatistics(1, 2).window(3));
+		assertThat("Messages should match", window.getMessage(), is("Number of panes out of range"));
+	}
+}